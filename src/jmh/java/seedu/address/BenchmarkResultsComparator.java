@@ -0,0 +1,84 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH result files written in the JSON format, e.g. from runs of the {@code jmh} task on two commits,
+ * and prints the change in the score of every benchmark they have in common.
+ * A benchmark is reported as a regression if its time per operation grew by more than the threshold percentage,
+ * and by more than the error margins of both runs combined. The exit status is 1 if there are any regressions.
+ * Run with {@code java -cp <classpath> seedu.address.BenchmarkResultsComparator BASELINE CURRENT [THRESHOLD]}.
+ */
+public class BenchmarkResultsComparator {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkResultsComparator BASELINE CURRENT [THRESHOLD_PERCENT]");
+            System.exit(2);
+        }
+        Map<String, JsonNode> baseline = readScores(Paths.get(args[0]));
+        Map<String, JsonNode> current = readScores(Paths.get(args[1]));
+        double thresholdPercent = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        int regressionCount = 0;
+        for (Map.Entry<String, JsonNode> entry : new TreeMap<>(current).entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-100s %12s -> %12.3f %s (new)%n", entry.getKey(), "",
+                        entry.getValue().get("score").asDouble(), entry.getValue().get("scoreUnit").asText());
+                continue;
+            }
+            double beforeScore = before.get("score").asDouble();
+            double afterScore = entry.getValue().get("score").asDouble();
+            double changePercent = 100 * (afterScore - beforeScore) / beforeScore;
+            double combinedError = getError(before) + getError(entry.getValue());
+            boolean isRegression = changePercent > thresholdPercent && afterScore - beforeScore > combinedError;
+            if (isRegression) {
+                regressionCount++;
+            }
+            System.out.printf("%-100s %12.3f -> %12.3f %s (%+.1f%%)%s%n", entry.getKey(), beforeScore, afterScore,
+                    entry.getValue().get("scoreUnit").asText(), changePercent, isRegression ? " REGRESSION" : "");
+        }
+
+        System.out.println(regressionCount + " regression(s) above " + thresholdPercent + "%");
+        System.exit(regressionCount == 0 ? 0 : 1);
+    }
+
+    /**
+     * Returns the primary metric of each benchmark in the result file at {@code path}, keyed by the benchmark's
+     * name and parameters. Only time-per-operation modes are compared, as higher scores are worse for them.
+     */
+    private static Map<String, JsonNode> readScores(Path path) throws IOException {
+        Map<String, JsonNode> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(path.toFile())) {
+            String mode = result.get("mode").asText();
+            if (!mode.equals("avgt") && !mode.equals("sample") && !mode.equals("ss")) {
+                continue;
+            }
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+            JsonNode params = result.get("params");
+            if (params != null) {
+                params.fields().forEachRemaining(param ->
+                        key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            }
+            scores.put(key.toString(), result.get("primaryMetric"));
+        }
+        return scores;
+    }
+
+    private static double getError(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        // JMH reports NaN when there were too few iterations to estimate the error
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long {@code AddressBookParser#parseCommand} takes for a typical command of each kind.
+ * Parsing does not look at the address book, so unlike the model benchmarks this one has no size parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "add n/John Doe e/johnd@example.com p/98765432 c/Apple j/CTO t/friends t/owesMoney i/High",
+        "edit 1 p/91234567 e/johndoe@example.com t/colleagues",
+        "find alice whit c/Google",
+        "filter friends",
+        "addmeeting dt/03/12/2025 12:00 mp/Alice mp/Bob mn/Discuss about project md/45",
+        "list"
+    })
+    private String commandText;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.model.meeting;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Importance;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Position;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures how the operations of {@code UniqueMeetingList} scale with the number of persons and meetings.
+ * Each meeting is between two persons, and each person's meetings are an hour apart, so none of them overlap.
+ * {@code addThenRemove} and {@code getMeetingsWith} should depend on the meetings of the participants rather
+ * than on {@code meetingCount}, apart from the scan that {@code remove} makes to find the meeting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueMeetingListBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    @Param({"1000", "100000"})
+    private int personCount;
+
+    @Param({"1000", "10000", "100000"})
+    private int meetingCount;
+
+    private UniquePersonList persons;
+    private List<Meeting> meetings;
+    private UniqueMeetingList populatedList;
+    private Meeting absentMeeting;
+    private String participantName;
+
+    @Setup
+    public void setUp() {
+        persons = new UniquePersonList();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(createPerson(i));
+        }
+
+        meetings = new ArrayList<>(meetingCount);
+        for (int i = 0; i < meetingCount; i++) {
+            meetings.add(createMeeting(i));
+        }
+        populatedList = new UniqueMeetingList();
+        populatedList.setMeetings(meetings, persons);
+        absentMeeting = createMeeting(meetingCount);
+        participantName = getPersonName(0);
+    }
+
+    @Benchmark
+    public UniqueMeetingList setMeetings() {
+        UniqueMeetingList list = new UniqueMeetingList();
+        list.setMeetings(meetings, persons);
+        return list;
+    }
+
+    @Benchmark
+    public UniqueMeetingList addThenRemove() {
+        populatedList.add(absentMeeting, persons);
+        populatedList.remove(absentMeeting);
+        return populatedList;
+    }
+
+    @Benchmark
+    public List<Meeting> getMeetingsWith() {
+        return populatedList.getMeetingsWith(participantName);
+    }
+
+    @Benchmark
+    public List<MeetingConflict> findConflicts() {
+        return populatedList.findConflicts();
+    }
+
+    /**
+     * Returns the {@code id}-th meeting, which is between two neighbouring persons. A person meets each of their
+     * two neighbours in turn, so every meeting of a person starts at a different hour.
+     */
+    private Meeting createMeeting(int id) {
+        int firstPerson = id % personCount;
+        int secondPerson = (firstPerson + 1) % personCount;
+        int round = id / personCount;
+        String time = START.plusHours(2L * round + id % 2).format(FORMATTER);
+        return new Meeting(new MeetingTime(time), Set.of(getPersonName(firstPerson), getPersonName(secondPerson)),
+                new Notes("Meeting " + id), new MeetingDuration("30"));
+    }
+
+    private static String getPersonName(int id) {
+        return "Person " + id;
+    }
+
+    private static Person createPerson(int id) {
+        return new Person(new Name(getPersonName(id)), new Email("person" + id + "@example.com"),
+                new Phone(String.valueOf(80000000 + id)), new Company("Company " + (id % 100)),
+                new Position("Engineer"), Collections.emptySet(), new Importance("Low"));
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how the uniqueness checks of {@code UniquePersonList} scale with the number of persons.
+ * The time per operation of the {@code setPersons} and {@code findDuplicates} benchmarks should grow
+ * linearly with {@code size}, and that of {@code contains} should stay flat. {@code addThenRemove} grows with
+ * {@code size} only because of the scan that {@code remove} makes to find the person.
+ * {@code filterPersonsIndexed} grows with {@code size} only by a cheap lookup per person, the predicate itself
+ * being tested on the candidates suggested by the search index alone, unlike {@code filterPersons}, which tests the
+ * predicate against every person.
+ * Likewise {@code filterPersonsByTagIndexed} searches only the distinct tags, once, and then looks up each person
+ * in the combined bitmap, unlike {@code filterPersonsByTag}, which compares the search term with every tag of
+ * every person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private List<Person> personsWithDuplicate;
+    private UniquePersonList populatedList;
+    private Person absentPerson;
+    private PersonContainsKeywordsPredicate findPredicate;
+    private Predicate<Person> indexedFindPredicate;
+    private PersonTagsContainsSearchPredicate tagPredicate;
+    private Predicate<Person> indexedTagPredicate;
+
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(createPerson(i));
+        }
+        Collections.shuffle(persons, new Random(size));
+
+        personsWithDuplicate = new ArrayList<>(persons);
+        personsWithDuplicate.add(createPerson(size / 2));
+
+        populatedList = new UniquePersonList();
+        populatedList.setPersons(persons);
+        absentPerson = createPerson(size);
+        findPredicate = new PersonContainsKeywordsPredicate("son " + (size / 3), "company 4");
+        tagPredicate = new PersonTagsContainsSearchPredicate("team17");
+        // the search index is built by the first search, which is not what is being measured
+        indexedFindPredicate = populatedList.getIndexedPredicate(findPredicate);
+        indexedTagPredicate = populatedList.getIndexedPredicate(tagPredicate);
+    }
+
+    @Benchmark
+    public UniquePersonList setPersons() {
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        return list;
+    }
+
+    @Benchmark
+    public List<UniquePersonList.DuplicatePair> findDuplicates() {
+        return UniquePersonList.findDuplicates(personsWithDuplicate);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return populatedList.contains(absentPerson);
+    }
+
+    @Benchmark
+    public UniquePersonList addThenRemove() {
+        populatedList.add(absentPerson);
+        populatedList.remove(absentPerson);
+        return populatedList;
+    }
+
+    @Benchmark
+    public List<Person> filterPersonsIndexed() {
+        List<Person> matches = new ArrayList<>();
+        for (Person person : populatedList) {
+            if (indexedFindPredicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<Person> filterPersons() {
+        List<Person> matches = new ArrayList<>();
+        for (Person person : populatedList) {
+            if (findPredicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<Person> filterPersonsByTagIndexed() {
+        List<Person> matches = new ArrayList<>();
+        for (Person person : populatedList) {
+            if (indexedTagPredicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<Person> filterPersonsByTag() {
+        List<Person> matches = new ArrayList<>();
+        for (Person person : populatedList) {
+            if (tagPredicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private static Person createPerson(int id) {
+        return new Person(new Name("Person " + id), new Email("person" + id + "@example.com"),
+                new Phone(String.valueOf(80000000 + id)), new Company("Company " + (id % 100)),
+                new Position("Engineer"), Collections.singleton(new Tag("Team" + (id % 1000))), new Importance("Low"));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.util;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Importance;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Position;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reports the heap retained by an address book's persons when their companies, positions and tags are created
+ * separately, as they were before interning, and when they are interned.
+ * Field values are copied into new strings first, as they would be when read from a data file.
+ * Run with {@code java -cp <classpath> seedu.address.model.util.InternerMemoryReport [size]}.
+ */
+public class InternerMemoryReport {
+
+    private static final int DEFAULT_SIZE = 100_000;
+    private static final int DISTINCT_COMPANIES = 300;
+    private static final int DISTINCT_POSITIONS = 50;
+    private static final int DISTINCT_TAGS = 200;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+
+        long separate = measureRetainedHeap(() -> createPersons(size, Company::new, Position::new, Tag::new));
+        long interned = measureRetainedHeap(() -> createPersons(size, Company::of, Position::of, Tag::of));
+
+        System.out.printf("Persons:                    %,d%n", size);
+        System.out.printf("Retained without interning: %,d KiB%n", separate / 1024);
+        System.out.printf("Retained with interning:    %,d KiB (%.1f%% less)%n", interned / 1024,
+                100.0 * (separate - interned) / separate);
+    }
+
+    private static List<Person> createPersons(int size, Function<String, Company> toCompany,
+            Function<String, Position> toPosition, Function<String, Tag> toTag) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Set<Tag> tags = new HashSet<>();
+            tags.add(toTag.apply(copyOf("tag" + (i % DISTINCT_TAGS))));
+            tags.add(toTag.apply(copyOf("tag" + (i / 7 % DISTINCT_TAGS))));
+            Company company = toCompany.apply(copyOf("Company " + (i % DISTINCT_COMPANIES)));
+            Position position = toPosition.apply(copyOf("Position " + (i % DISTINCT_POSITIONS)));
+            persons.add(new Person(new Name("Person " + i), new Email("person" + i + "@example.com"),
+                    new Phone(String.valueOf(80000000 + i)), company, position, tags, new Importance("Low")));
+        }
+        return persons;
+    }
+
+    private static String copyOf(String s) {
+        return new String(s.toCharArray());
+    }
+
+    /**
+     * Returns the growth in used heap, after garbage collection, while the result of {@code allocation} is held.
+     */
+    private static long measureRetainedHeap(Supplier<Object> allocation) {
+        long before = usedHeapAfterGc();
+        Object retained = allocation.get();
+        long after = usedHeapAfterGc();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
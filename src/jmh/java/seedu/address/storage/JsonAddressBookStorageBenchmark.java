@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures how long {@code JsonAddressBookStorage} takes to save and read an address book of {@code size} persons
+ * and a tenth as many meetings, in a pretty-printed or compact file.
+ * Both should grow linearly with {@code size}. The file is written to a temporary folder, so the results also
+ * depend on the disk it is on, especially for saves that are forced onto it under {@code durabilityPolicy}.
+ * As the benchmark saves continuously, {@link DurabilityPolicy#PERIODIC} forces one save every 5 seconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"true", "false"})
+    private boolean isPrettyPrinted;
+
+    @Param({"EVERY_SAVE", "PERIODIC", "NEVER"})
+    private DurabilityPolicy durabilityPolicy;
+
+    private Path folder;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED)
+                .withPersons(size).withMeetings(size / 10).generateAddressBook();
+
+        folder = Files.createTempDirectory("storage-benchmark");
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"), isPrettyPrinted, durabilityPolicy,
+                JsonAddressBookStorage.DEFAULT_SYNC_INTERVAL);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(JsonAddressBookStorage.getBackupFilePath(storage.getAddressBookFilePath()));
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Path saveAddressBook() throws IOException {
+        storage.saveAddressBook(addressBook);
+        return storage.getAddressBookFilePath();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.FileAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * The entry point for running a script of commands without the GUI, e.g.
+ * {@code java -cp addressbook.jar seedu.address.BatchMain --save-every 1000 commands.txt}.
+ *
+ * Commands are read from the given script file, or from standard input if none is given, and their feedback is
+ * printed to standard output. The data file and preferences are the same ones the GUI uses, except that a missing
+ * data file is started empty rather than with sample data. The exit status is 0 if every command succeeded,
+ * 1 if any command failed, and 2 if the batch could not be run at all.
+ */
+public class BatchMain {
+
+    public static final String MESSAGE_USAGE = "Usage: BatchMain [--config CONFIG_FILE] [--save-every N] [SCRIPT]";
+
+    private static final int EXIT_COMMAND_FAILED = 1;
+    private static final int EXIT_ERROR = 2;
+
+    public static void main(String[] args) {
+        Path configPath = Config.DEFAULT_CONFIG_FILE;
+        int saveInterval = 0;
+        Path scriptPath = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--config") && i + 1 < args.length) {
+                    configPath = toPath(args[++i]);
+                } else if (args[i].equals("--save-every") && i + 1 < args.length) {
+                    saveInterval = Integer.parseUnsignedInt(args[++i]);
+                } else if (scriptPath == null && !args[i].startsWith("--")) {
+                    scriptPath = toPath(args[i]);
+                } else {
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(EXIT_ERROR);
+        }
+
+        try (BufferedReader script = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptPath)) {
+            int failedCount = run(configPath, saveInterval, script);
+            System.exit(failedCount == 0 ? 0 : EXIT_COMMAND_FAILED);
+        } catch (IOException | DataLoadingException e) {
+            System.err.println(e.getMessage());
+            System.exit(EXIT_ERROR);
+        }
+    }
+
+    private static Path toPath(String path) {
+        if (!FileUtil.isValidPath(path)) {
+            throw new IllegalArgumentException(path);
+        }
+        return Paths.get(path);
+    }
+
+    /**
+     * Runs {@code script} against the data file configured by {@code configPath}.
+     *
+     * @return the number of commands that failed.
+     */
+    private static int run(Path configPath, int saveInterval, BufferedReader script)
+            throws IOException, DataLoadingException {
+        Config config = ConfigUtil.readConfig(configPath).orElseGet(Config::new);
+        // logging every command would slow down long scripts, so only problems are logged
+        if (config.getLogLevel().intValue() < Level.WARNING.intValue()) {
+            config.setLogLevel(Level.WARNING);
+        }
+        LogsCenter.init(config);
+
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+        FileAddressBookStorage fileAddressBookStorage = FileAddressBookStorage.of(userPrefs);
+        AddressBookStorage addressBookStorage = userPrefs.isAddressBookJournalEnabled()
+                ? new JournalAddressBookStorage(fileAddressBookStorage,
+                        JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD)
+                : fileAddressBookStorage;
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        Model model = new ModelManager(storage.readAddressBook().orElseGet(AddressBook::new), userPrefs);
+        return new BatchRunner(new LogicManager(model, storage), System.out, saveInterval).run(script);
+    }
+}
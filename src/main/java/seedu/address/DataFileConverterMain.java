@@ -0,0 +1,83 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.FileAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * The entry point for converting a data file between the JSON and binary formats, e.g.
+ * {@code java -cp addressbook.jar seedu.address.DataFileConverterMain data/addressbook.json data/addressbook.bin}.
+ *
+ * The format of the input file is detected from its contents. The output file is in the other format, unless
+ * {@code --to} says otherwise.
+ */
+public class DataFileConverterMain {
+
+    public static final String MESSAGE_USAGE =
+            "Usage: DataFileConverterMain [--to json|binary] [--compact] INPUT_FILE OUTPUT_FILE";
+
+    public static void main(String[] args) {
+        StorageFormat outputFormat = null;
+        boolean isPrettyPrinted = true;
+        List<Path> filePaths = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--to") && i + 1 < args.length) {
+                    outputFormat = StorageFormat.valueOf(args[++i].toUpperCase());
+                } else if (args[i].equals("--compact")) {
+                    isPrettyPrinted = false;
+                } else if (!args[i].startsWith("--") && FileUtil.isValidPath(args[i])) {
+                    filePaths.add(Paths.get(args[i]));
+                } else {
+                    throw new IllegalArgumentException("Unexpected argument " + args[i]);
+                }
+            }
+            if (filePaths.size() != 2) {
+                throw new IllegalArgumentException("Expected an input and an output file");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Path inputPath = filePaths.get(0);
+        Path outputPath = filePaths.get(1);
+        try {
+            boolean isInputBinary = BinaryAddressBookStorage.isBinaryFile(inputPath);
+            FileAddressBookStorage input = isInputBinary
+                    ? new BinaryAddressBookStorage(inputPath)
+                    : new JsonAddressBookStorage(inputPath);
+            Optional<ReadOnlyAddressBook> addressBook = input.readAddressBook();
+            if (!addressBook.isPresent()) {
+                throw new IOException("File not found");
+            }
+
+            if (outputFormat == null) {
+                outputFormat = isInputBinary ? StorageFormat.JSON : StorageFormat.BINARY;
+            }
+            FileAddressBookStorage output = outputFormat == StorageFormat.BINARY
+                    ? new BinaryAddressBookStorage(outputPath)
+                    : new JsonAddressBookStorage(outputPath, isPrettyPrinted);
+            output.saveAddressBook(addressBook.get());
+            System.out.println("Converted " + addressBook.get().getPersonList().size() + " persons and "
+                    + addressBook.get().getMeetingList().size() + " meetings to " + outputFormat + " in "
+                    + outputPath);
+        } catch (IOException | DataLoadingException e) {
+            System.err.println("Could not convert " + inputPath + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -3,9 +3,11 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -23,11 +25,13 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.FileAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -38,6 +42,14 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 0, 0, true);
 
+    /** The number of persons shown while the rest of the data file is loaded in the background. */
+    public static final int FIRST_PAGE_SIZE = 100;
+
+    public static final String MESSAGE_LOADING = "Loading contacts...";
+    public static final String MESSAGE_LOADING_REST = "Showing the first %1$d contacts, loading the rest...";
+    public static final String MESSAGE_LOADED = "Loaded %1$d contacts";
+    public static final String MESSAGE_LOAD_FAILED = "Could not load contacts, changes will not be saved";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,6 +58,10 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private LogicManager logicManager;
+    private FileAddressBookStorage fileAddressBookStorage;
+    private WriteBehindAddressBookStorage writeBehindStorage;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,22 +73,53 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        fileAddressBookStorage = FileAddressBookStorage.of(userPrefs);
+        AddressBookStorage addressBookStorage;
+        if (userPrefs.isAddressBookJournalEnabled()) {
+            // The journal already keeps saves cheap, and has to observe the live address book to do so
+            addressBookStorage = new JournalAddressBookStorage(fileAddressBookStorage,
+                    JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        } else {
+            writeBehindStorage = new WriteBehindAddressBookStorage(fileAddressBookStorage);
+            addressBookStorage = writeBehindStorage;
+        }
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        if (userPrefs.isAddressBookLoadedInBackground()) {
+            // the data is only loaded once the window is shown
+            model = new ModelManager(new AddressBook(), userPrefs);
+        } else {
+            model = initModelManager(storage, userPrefs);
+        }
 
-        logic = new LogicManager(model, storage);
+        logicManager = new LogicManager(model, storage);
+        logic = logicManager;
 
         ui = new UiManager(logic);
+
+        if (writeBehindStorage != null) {
+            writeBehindStorage.setSaveErrorListener(e -> {
+                logicManager.markSaveFailed();
+                Platform.runLater(() -> ui.showFeedbackToUser(LogicManager.getSaveErrorMessage(e)));
+            });
+        }
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * If journalling is enabled, any changes journalled since the last snapshot are replayed while reading.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(readInitialData(storage), userPrefs);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book, or the sample or empty address book instead, as
+     * {@link #initModelManager(Storage, ReadOnlyUserPrefs)} describes.
+     */
+    private ReadOnlyAddressBook readInitialData(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -89,8 +136,57 @@ public class MainApp extends Application {
                     + " Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
+        return initialData;
+    }
+
+    /**
+     * Loads the data from {@code storage}'s address book into the model in the background, as
+     * {@link #initModelManager(Storage, ReadOnlyUserPrefs)} would have, so that the window can be shown straight away.
+     * The first {@value #FIRST_PAGE_SIZE} persons in the data file are shown as soon as they are read, while the
+     * rest of the file is read. Loading runs on the thread that executes commands, so any command entered before
+     * the data is loaded waits until it is. Nothing is saved unless the whole file is read.
+     */
+    private void loadAddressBookInBackground() {
+        ui.showLoadStatus(MESSAGE_LOADING, true);
+        long startTime = System.nanoTime();
+        logicManager.loadAddressBookAsync(() -> {
+            readFirstPage().ifPresent(firstPage -> {
+                model.setAddressBook(firstPage);
+                logger.info("Showing the first page of the data file after " + getMillisSince(startTime) + " ms");
+                int firstPageSize = firstPage.getPersonList().size();
+                Platform.runLater(() -> ui.showLoadStatus(String.format(MESSAGE_LOADING_REST, firstPageSize), true));
+            });
 
-        return new ModelManager(initialData, userPrefs);
+            ReadOnlyAddressBook initialData = readInitialData(storage);
+            model.setAddressBook(initialData);
+            logger.info("Loaded the data file after " + getMillisSince(startTime) + " ms");
+            return initialData.getPersonList().size();
+        }).whenCompleteAsync((personCount, error) -> {
+            if (error != null) {
+                logger.severe("Failed to load the data file " + StringUtil.getDetails(error));
+                ui.showLoadStatus(MESSAGE_LOAD_FAILED, false);
+                return;
+            }
+            ui.showLoadStatus(String.format(MESSAGE_LOADED, personCount), false);
+        }, Platform::runLater);
+    }
+
+    /**
+     * Returns the first page of persons in the data file, or an empty {@code Optional} if there are none to show.
+     */
+    private Optional<ReadOnlyAddressBook> readFirstPage() {
+        try {
+            return fileAddressBookStorage.readFirstPersons(FIRST_PAGE_SIZE)
+                    .filter(firstPage -> !firstPage.getPersonList().isEmpty());
+        } catch (DataLoadingException e) {
+            // the whole file is about to be read anyway, which reports any problem with it
+            logger.fine("Could not read the first page of the data file: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static long getMillisSince(long startTime) {
+        return (System.nanoTime() - startTime) / 1_000_000;
     }
 
     private void initLogging(Config config) {
@@ -172,11 +268,36 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (model.getUserPrefs().isAddressBookLoadedInBackground()) {
+            loadAddressBookInBackground();
+        }
+    }
+
+    /**
+     * Saves the address book once more if a write in the background failed, as the changes it held would otherwise
+     * be lost on exit. Nothing is written if every write succeeded.
+     */
+    private void retryFailedSave() {
+        try {
+            logic.executeTaskAsync(() -> {
+                logicManager.saveAddressBook();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Failed to save the address book " + StringUtil.getDetails(e.getCause()));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (writeBehindStorage != null) {
+            writeBehindStorage.flush();
+            retryFailedSave();
+            writeBehindStorage.close();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
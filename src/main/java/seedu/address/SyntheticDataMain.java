@@ -0,0 +1,99 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonAddressBookWriter;
+
+/**
+ * The entry point for generating a synthetic data file, e.g.
+ * {@code java -cp addressbook.jar seedu.address.SyntheticDataMain --persons 1000000 data/addressbook.json}.
+ *
+ * Records are written as they are generated, so files of millions of persons can be generated with a small heap.
+ * The same options and seed always give the same file.
+ *
+ * @see SyntheticDataGenerator
+ */
+public class SyntheticDataMain {
+
+    public static final String MESSAGE_USAGE = "Usage: SyntheticDataMain [--seed SEED] [--persons N] "
+            + "[--tags-per-person N] [--companies N] [--meetings N] [--participants-per-meeting N] [--compact] FILE";
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        boolean isPrettyPrinted = true;
+        Path filePath = null;
+        SyntheticDataGenerator generator;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--compact")) {
+                    isPrettyPrinted = false;
+                } else if (args[i].startsWith("--") && i + 1 < args.length) {
+                    options.put(args[i], args[++i]);
+                } else if (filePath == null && !args[i].startsWith("--") && FileUtil.isValidPath(args[i])) {
+                    filePath = Paths.get(args[i]);
+                } else {
+                    throw new IllegalArgumentException("Unexpected argument " + args[i]);
+                }
+            }
+            if (filePath == null) {
+                throw new IllegalArgumentException("No file given");
+            }
+            generator = createGenerator(options);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+            return;
+        }
+
+        try {
+            JsonAddressBookWriter.write(filePath, generator.getPersons(), generator.getMeetings(), isPrettyPrinted);
+            System.out.println("Generated " + generator.getPersonCount() + " persons and "
+                    + generator.getMeetingCount() + " meetings in " + filePath);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not generate " + filePath + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns a generator configured by {@code options}, which maps each option to its value, removing the seed.
+     *
+     * @throws IllegalArgumentException if an option is unknown or its value is invalid.
+     */
+    private static SyntheticDataGenerator createGenerator(Map<String, String> options) {
+        String seed = options.remove("--seed");
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                seed == null ? SyntheticDataGenerator.DEFAULT_SEED : Long.parseLong(seed));
+
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            int value = Integer.parseInt(option.getValue());
+            switch (option.getKey()) {
+            case "--persons":
+                generator.withPersons(value);
+                break;
+            case "--tags-per-person":
+                generator.withTagsPerPerson(value);
+                break;
+            case "--companies":
+                generator.withCompanies(value);
+                break;
+            case "--meetings":
+                generator.withMeetings(value);
+                break;
+            case "--participants-per-meeting":
+                generator.withParticipantsPerMeeting(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option " + option.getKey());
+            }
+        }
+        return generator;
+    }
+}
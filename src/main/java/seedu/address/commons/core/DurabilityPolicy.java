@@ -0,0 +1,14 @@
+package seedu.address.commons.core;
+
+/**
+ * How often saved data is forced onto the disk, rather than left for the operating system to write out later.
+ * Forcing guarantees that a save survives a power failure or system crash, at the cost of waiting for the disk.
+ */
+public enum DurabilityPolicy {
+    /** Every save is forced onto the disk before it completes. */
+    EVERY_SAVE,
+    /** A save is forced onto the disk only if the last forced save was long enough ago. */
+    PERIODIC,
+    /** Saves are never forced, and are written out whenever the operating system chooses. */
+    NEVER
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The format that the address book is saved in.
+ */
+public enum StorageFormat {
+    /** A JSON file, which can be read and edited by hand. */
+    JSON,
+    /** A compact binary file, which is smaller and faster to read and save, but cannot be edited by hand. */
+    BINARY
+}
@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -111,6 +116,37 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation.
+     * Unlike {@link #toJsonString(Object)}, no pretty-printing is applied, so the result never contains line breaks.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return compact JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a generator that writes JSON to {@code out}, for writing documents too large to build as a string.
+     * Objects written with {@link JsonGenerator#writeObject(Object)} are converted the same way as by
+     * {@link #toJsonString(Object)}. Closing the generator closes {@code out}.
+     * @param isPrettyPrinted whether to indent the JSON as {@link #toJsonString(Object)} does.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
+    /**
+     * Returns a parser that reads JSON from {@code in} token by token, for reading documents too large to hold in
+     * memory at once. Objects read with {@link JsonParser#readValueAs(Class)} are converted the same way as by
+     * {@link #fromJsonString(String, Class)}. Closing the parser closes {@code in}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
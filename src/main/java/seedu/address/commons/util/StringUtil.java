@@ -61,6 +61,28 @@ public class StringUtil {
         return sentence.toLowerCase().contains(preppedWord.toLowerCase());
     }
 
+    /**
+     * Returns a case-folded copy of {@code s}, such that two strings are equal ignoring case
+     * (as defined by {@link String#equalsIgnoreCase(String)}) exactly when their case-folded copies are equal.
+     * Returns {@code s} itself if it is already case-folded.
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] folded = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            char foldedChar = Character.toLowerCase(Character.toUpperCase(c));
+            if (foldedChar != c && folded == null) {
+                folded = s.toCharArray();
+            }
+            if (folded != null) {
+                folded[i] = foldedChar;
+            }
+        }
+        return folded == null ? s : new String(folded);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
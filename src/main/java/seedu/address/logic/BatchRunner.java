@@ -0,0 +1,111 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes a script of commands, one per line, through a {@code LogicManager} and prints the feedback of each.
+ * Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped. A failing command is reported and the
+ * script carries on, while an exit command ends it. A command that fails unexpectedly counts as failed too.
+ * The address book is saved every {@code saveInterval} commands, and once more at the end, instead of after
+ * every command. It is saved even if the script cannot be read to its end, so that the commands executed before
+ * are never lost.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_COMMAND_FAILED = "Error on line %1$d: %2$s";
+    public static final String MESSAGE_SUMMARY = "Executed %1$d command(s), %2$d failed.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final LogicManager logic;
+    private final PrintStream out;
+    private final int saveInterval;
+
+    /**
+     * Creates a {@code BatchRunner} that prints feedback to {@code out}, saving every {@code saveInterval}
+     * commands, or only at the end if {@code saveInterval} is 0.
+     */
+    public BatchRunner(LogicManager logic, PrintStream out, int saveInterval) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        if (saveInterval < 0) {
+            throw new IllegalArgumentException("Save interval must not be negative: " + saveInterval);
+        }
+        this.logic = logic;
+        this.out = out;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Executes every command read from {@code script} and saves the address book.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if the script could not be read, or the address book could not be saved.
+     */
+    public int run(BufferedReader script) throws IOException {
+        requireNonNull(script);
+        logic.setAutoSaveEnabled(false);
+
+        int executedCount = 0;
+        int failedCount = 0;
+        int lineNumber = 0;
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                executedCount++;
+                CommandResult commandResult;
+                try {
+                    commandResult = logic.execute(commandText);
+                } catch (CommandException | ParseException e) {
+                    failedCount++;
+                    out.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                    continue;
+                } catch (RuntimeException e) {
+                    failedCount++;
+                    logger.warning("Unexpected error on line " + lineNumber + " " + StringUtil.getDetails(e));
+                    out.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e));
+                    continue;
+                }
+                out.println(commandResult.getFeedbackToUser());
+
+                if (saveInterval > 0 && executedCount % saveInterval == 0) {
+                    logic.saveAddressBook();
+                }
+                if (commandResult.isExit()) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // the commands executed so far are still saved, but a failure to do so must not hide this one
+            try {
+                logic.saveAddressBook();
+            } catch (IOException | RuntimeException saveError) {
+                e.addSuppressed(saveError);
+            }
+            throw e;
+        }
+        logic.saveAddressBook();
+
+        out.println(String.format(MESSAGE_SUMMARY, executedCount, failedCount));
+        logger.info("Batch finished after line " + lineNumber + ", " + failedCount + " command(s) failed");
+        return failedCount;
+    }
+}
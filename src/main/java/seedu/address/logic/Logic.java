@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +26,26 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a background thread, after every command submitted before it.
+     * The model is only ever modified by that thread, so observers of the model's lists must not assume that
+     * changes arrive on the thread that submitted the command.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, completed exceptionally with a {@code CommandException} or
+     *     {@code ParseException} as {@link #execute(String)} would throw.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Runs {@code task} on the thread that executes commands, after every command submitted before it and before
+     * every command submitted after it. Commands submitted while the task runs therefore wait for it to complete,
+     * which lets work that commands depend on, such as loading the address book, be done in the background.
+     *
+     * @return the result of the task, completed exceptionally with whatever the task throws.
+     */
+    <T> CompletableFuture<T> executeTaskAsync(Callable<T> task);
+
     /**
      * Returns the AddressBook.
      *
@@ -3,6 +3,10 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,8 +15,10 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.meeting.Meeting;
@@ -28,11 +34,33 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_DATA_NOT_LOADED = "the data file was not loaded, so it is not overwritten";
+
+    public static final String MESSAGE_CHANGES_NOT_SAVED =
+            "The data file could not be loaded, so no changes will be saved to it.";
+
+    /** Version used before anything has been saved, so that the first command always saves. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics;
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Written by the thread saving, and by whichever thread reports that a write started by a save failed. */
+    private volatile long lastSavedVersion = UNSAVED_VERSION;
+    /** Written by the thread starting a load, before the thread executing commands reads it. */
+    private volatile boolean isDataLoaded = true;
+    private boolean hasReportedChangesNotSaved = false;
+    private long skippedSaveCount = 0;
+    private boolean isAutoSaveEnabled = true;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,26 +68,153 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        commandMetrics = new CommandMetrics(model.getUserPrefs().isCommandMetricsEnabled());
+        addressBookParser = new AddressBookParser(commandMetrics);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        // timestamps are only taken when needed, so that disabled metrics cost nothing
+        boolean isTimed = commandMetrics.isEnabled();
+        long startTime = isTimed ? System.nanoTime() : 0;
+
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        long parsedTime = isTimed ? System.nanoTime() : 0;
         commandResult = command.execute(model);
+        long executedTime = isTimed ? System.nanoTime() : 0;
+
+        if (!isDataLoaded) {
+            // saving would overwrite the data file, so the command goes unsaved, which the user is told only once
+            if (!hasReportedChangesNotSaved) {
+                hasReportedChangesNotSaved = true;
+                commandResult = new CommandResult(commandResult.getFeedbackToUser() + "\n" + MESSAGE_CHANGES_NOT_SAVED,
+                        commandResult.isShowHelp(), commandResult.isExit());
+            }
+        } else if (isAutoSaveEnabled) {
+            try {
+                saveAddressBook();
+            } catch (IOException ioe) {
+                throw new CommandException(getSaveErrorMessage(ioe), ioe);
+            }
+        }
+
+        if (isTimed) {
+            String commandWord = commandText.trim().split("\\s+", 2)[0];
+            commandMetrics.record(commandWord, parsedTime - startTime, executedTime - parsedTime,
+                    System.nanoTime() - executedTime);
+        }
+        return commandResult;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Commands are run one at a time by a single thread, so they execute strictly in the order they were submitted.
+     */
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        return executeTaskAsync(() -> execute(commandText));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeTaskAsync(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                // errors too, as the future would otherwise never complete
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Replaces the address book with the data that {@code loader} reads, on the thread that executes commands, so
+     * that commands entered meanwhile wait until it is done. {@code loader} may set the address book more than once
+     * as it reads more of the data, e.g. to show the first persons early, so nothing is saved until it succeeds,
+     * lest partly loaded data be saved over the data file. If it fails, the address book is emptied, and commands
+     * still run but are not saved, while {@link #saveAddressBook()} refuses to save.
+     */
+    public <T> CompletableFuture<T> loadAddressBookAsync(Callable<T> loader) {
+        isDataLoaded = false;
+        return executeTaskAsync(() -> {
+            T result;
+            try {
+                result = loader.call();
+            } catch (Throwable e) {
+                model.setAddressBook(new AddressBook());
+                hasReportedChangesNotSaved = false;
+                throw e;
+            }
+            isDataLoaded = true;
+            return result;
+        });
+    }
+
+    /**
+     * Sets whether the address book is saved after every command. If not, it is only saved by
+     * {@link #saveAddressBook()}, which lets callers executing many commands in a row save once at the end.
+     */
+    public void setAutoSaveEnabled(boolean isAutoSaveEnabled) {
+        this.isAutoSaveEnabled = isAutoSaveEnabled;
+    }
 
+    /**
+     * Saves the address book, unless it has not been modified since it was last saved.
+     *
+     * @throws IOException if the address book could not be saved, or is not saved as the data file was not loaded.
+     */
+    public void saveAddressBook() throws IOException {
+        if (!isDataLoaded) {
+            throw new IOException(MESSAGE_DATA_NOT_LOADED);
+        }
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long version = addressBook.getVersion();
+        if (version == lastSavedVersion) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped save #" + skippedSaveCount);
+            return;
+        }
+
+        // marked as saved before the storage may hand the write to another thread, so that a failure reported by
+        // that thread is never overwritten by this marking
+        lastSavedVersion = version;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            storage.saveAddressBook(addressBook);
+        } catch (IOException | RuntimeException e) {
+            lastSavedVersion = UNSAVED_VERSION;
+            throw e;
         }
+    }
 
-        return commandResult;
+    /**
+     * Marks the address book as not saved, so that the next save writes it even if it has not been modified since.
+     * Storages that write in the background call this, from any thread, when a write they accepted fails.
+     */
+    public void markSaveFailed() {
+        lastSavedVersion = UNSAVED_VERSION;
+    }
+
+    /**
+     * Returns the message to show the user when saving the address book failed with {@code ioe}.
+     */
+    public static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
     }
 
     @Override
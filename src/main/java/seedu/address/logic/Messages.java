@@ -76,6 +76,9 @@ public class Messages {
         builder.delete(builder.length() - 2, builder.length());
         builder.append("; Notes: ")
                 .append(meeting.getNotes());
+        meeting.getDuration().ifPresent(duration -> builder.append("; Duration: ")
+                .append(duration)
+                .append(" min"));
         return builder.toString();
     }
 
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSONS;
 
@@ -23,6 +24,7 @@ public class AddMeetingCommand extends Command {
             + PREFIX_DATETIME + "DATETIME "
             + PREFIX_PERSONS + "CONTACTNAME..."
             + "[" + PREFIX_NOTES + "NOTES] "
+            + "[" + PREFIX_DURATION + "MINUTES] "
             + "\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_DATETIME + "03/12/2025 12:00 "
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETINGS;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingConflict;
+
+/**
+ * Lists every pair of overlapping meetings that share a contact, and shows only those meetings.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_NO_CONFLICTS = "No conflicting meetings found.";
+    public static final String MESSAGE_CONFLICTS_FOUND = "Found %1$d conflicting pair(s) of meetings:";
+    public static final String MESSAGE_CONFLICT = "%1$s overlaps %2$s (shared: %3$s)";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<MeetingConflict> conflicts = model.findMeetingConflicts();
+        if (conflicts.isEmpty()) {
+            model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
+            return new CommandResult(MESSAGE_NO_CONFLICTS);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_CONFLICTS_FOUND, conflicts.size()));
+        for (MeetingConflict conflict : conflicts) {
+            feedback.append('\n').append(String.format(MESSAGE_CONFLICT, describe(conflict.getEarlier()),
+                    describe(conflict.getLater()), String.join(", ", conflict.getSharedParticipants())));
+        }
+        // filtering by whether each meeting still conflicts keeps a meeting shown after an edit that leaves it
+        // conflicting, while a meeting edited out of its conflicts no longer is
+        model.updateFilteredMeetingList(model::hasMeetingConflict);
+        return new CommandResult(feedback.toString());
+    }
+
+    private static String describe(Meeting meeting) {
+        return meeting.getDateTime() + meeting.getDuration().map(duration -> " (" + duration + " min)").orElse("");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ConflictsCommand;
+    }
+}
@@ -9,7 +9,6 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.meeting.Meeting;
 import seedu.address.model.person.Person;
 
 /**
@@ -51,10 +50,8 @@ public class DeleteCommand extends Command {
         }
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        for (Meeting meeting : model.getFilteredMeetingList()) {
-            if (meeting.getPersonList().contains(personToDelete.getName().fullName)) {
-                throw new CommandException(MESSAGE_PERSON_HAS_MEETING);
-            }
+        if (!model.getMeetingsWith(personToDelete).isEmpty()) {
+            throw new CommandException(MESSAGE_PERSON_HAS_MEETING);
         }
 
         model.deletePerson(personToDelete);
@@ -10,7 +10,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETINGS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -24,7 +23,8 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.exceptions.DuplicateMeetingException;
+import seedu.address.model.meeting.exceptions.InvalidMeetingException;
 import seedu.address.model.person.Company;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Importance;
@@ -58,6 +58,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_EDIT_PERSON_SUCCESS = "Edited Person: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book.";
+    public static final String MESSAGE_MEETING_NOT_RENAMED = "The person's meetings cannot be renamed: %1$s";
 
     private final Index index;
     private final EditPersonDescriptor editPersonDescriptor;
@@ -99,24 +100,14 @@ public class EditCommand extends Command {
         }
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        // get a list of all meetings that contain this old name
-        List<Meeting> meetings = model.getFilteredMeetingList().stream()
-                .filter(meeting -> meeting.getPersonList().contains(personToEdit.getName().fullName)).toList();
-        for (Meeting meeting : meetings) {
-            EditMeetingCommand.EditMeetingDescriptor editMeetingDescriptor =
-                    new EditMeetingCommand.EditMeetingDescriptor();
-            editMeetingDescriptor.setMeetingTime(meeting.getDateTime());
-            editMeetingDescriptor.setNotes(meeting.getNotes());
-            ArrayList<String> persons = meeting.getPersonList().stream()
-                    .filter(p -> !p.equals(personToEdit.getName().fullName))
-                    .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
-            persons.add(editedPerson.getName().fullName);
-            Set<String> personsToAdd = new HashSet<>(persons);
-            editMeetingDescriptor.setPeople(personsToAdd);
-            Meeting editedMeeting = EditMeetingCommand.createEditedMeeting(meeting, editMeetingDescriptor);
-            model.setMeeting(meeting, editedMeeting);
+        try {
+            model.renameMeetingParticipant(personToEdit, editedPerson);
+        } catch (InvalidMeetingException | DuplicateMeetingException e) {
+            // the meetings are left as they were, so the person is restored to match them
+            model.setPerson(editedPerson, personToEdit);
+            throw new CommandException(String.format(MESSAGE_MEETING_NOT_RENAMED, e.getMessage()));
         }
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
@@ -2,8 +2,10 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETINGS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
@@ -20,8 +22,10 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingTime;
 import seedu.address.model.meeting.Notes;
+import seedu.address.model.meeting.exceptions.InvalidMeetingException;
 
 
 /**
@@ -37,7 +41,8 @@ public class EditMeetingCommand extends Command {
             + "Parameters: INDEX (must be a positive integer) "
             + "[" + PREFIX_DATETIME + "DATETIME] "
             + "[" + PREFIX_PERSONS + "CONTACT_NAME] "
-            + "[" + PREFIX_NOTES + "NOTES]\n"
+            + "[" + PREFIX_NOTES + "NOTES] "
+            + "[" + PREFIX_DURATION + "MINUTES]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_DATETIME + "03-12-2025 12:00 "
             + PREFIX_PERSONS + "Alice "
@@ -91,8 +96,16 @@ public class EditMeetingCommand extends Command {
             throw new CommandException(MESSAGE_EMPTY_PERSONS);
         }
 
-        model.setMeeting(meetingToEdit, editedMeeting);
+        try {
+            model.setMeeting(meetingToEdit, editedMeeting);
+        } catch (InvalidMeetingException e) {
+            throw new CommandException(e.getMessage());
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        // the edited meeting is a new meeting that the current filter may not match, so it is never hidden by it
+        if (!model.getFilteredMeetingList().contains(editedMeeting)) {
+            model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
+        }
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedMeeting)));
     }
 
@@ -106,7 +119,9 @@ public class EditMeetingCommand extends Command {
         MeetingTime updatedDt = editMeetingDescriptor.getMeetingTime().orElse(meetingToEdit.getDateTime());
         Notes updatedNotes = editMeetingDescriptor.getNotes().orElse(meetingToEdit.getNotes());
         Set<String> updatedPeople = editMeetingDescriptor.getPeople().orElse(meetingToEdit.getPersonList());
-        return new Meeting(updatedDt, updatedPeople, updatedNotes);
+        MeetingDuration updatedDuration = editMeetingDescriptor.getDuration()
+                .orElse(meetingToEdit.getDuration().orElse(null));
+        return new Meeting(updatedDt, updatedPeople, updatedNotes, updatedDuration);
     }
 
     @Override
@@ -141,6 +156,7 @@ public class EditMeetingCommand extends Command {
         private MeetingTime meetingTime;
         private Notes notes;
         private Set<String> people;
+        private MeetingDuration duration;
 
         public EditMeetingDescriptor() {}
 
@@ -152,13 +168,14 @@ public class EditMeetingCommand extends Command {
             setMeetingTime(toCopy.meetingTime);
             setNotes(toCopy.notes);
             setPeople(toCopy.people);
+            setDuration(toCopy.duration);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(meetingTime, notes, people);
+            return CollectionUtil.isAnyNonNull(meetingTime, notes, people, duration);
         }
 
         public void setMeetingTime(MeetingTime meetingTime) {
@@ -169,6 +186,14 @@ public class EditMeetingCommand extends Command {
             return Optional.ofNullable(meetingTime);
         }
 
+        public void setDuration(MeetingDuration duration) {
+            this.duration = duration;
+        }
+
+        public Optional<MeetingDuration> getDuration() {
+            return Optional.ofNullable(duration);
+        }
+
         public void setNotes(Notes notes) {
             this.notes = notes;
         }
@@ -208,7 +233,8 @@ public class EditMeetingCommand extends Command {
             EditMeetingDescriptor otherEditMeetingDescriptor = (EditMeetingDescriptor) other;
             return Objects.equals(meetingTime, otherEditMeetingDescriptor.meetingTime)
                     && Objects.equals(notes, otherEditMeetingDescriptor.notes)
-                    && Objects.equals(people, otherEditMeetingDescriptor.people);
+                    && Objects.equals(people, otherEditMeetingDescriptor.people)
+                    && Objects.equals(duration, otherEditMeetingDescriptor.duration);
         }
 
         @Override
@@ -217,6 +243,7 @@ public class EditMeetingCommand extends Command {
                     .add("meeting time", meetingTime)
                     .add("notes", notes)
                     .add("people", people)
+                    .add("duration", duration)
                     .toString();
         }
     }
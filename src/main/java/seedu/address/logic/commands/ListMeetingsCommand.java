@@ -1,22 +1,100 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETINGS;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.meeting.MeetingInPeriodPredicate;
+import seedu.address.model.meeting.MeetingTime;
 
 /**
- * List all meetings in the address book to the user
+ * List all meetings in the address book to the user, optionally only those within a period of time.
  */
 public class ListMeetingsCommand extends Command {
     public static final String COMMAND_WORD = "meetings";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all meetings, or only those scheduled "
+            + "within the given period (inclusive).\n"
+            + "Parameters: [" + PREFIX_FROM + "DATETIME] [" + PREFIX_TO + "DATETIME]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "2025-03-01 00:00 " + PREFIX_TO + "2025-03-31 23:59";
+
     public static final String MESSAGE_SUCCESS = "Listed all meetings";
+    public static final String MESSAGE_MEETINGS_IN_PERIOD = "Listed %1$d meeting(s) scheduled %2$s";
+
+    private final MeetingTime from;
+    private final MeetingTime to;
+
+    /**
+     * Creates a ListMeetingsCommand that lists all meetings.
+     */
+    public ListMeetingsCommand() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a ListMeetingsCommand that lists the meetings scheduled from {@code from} to {@code to}.
+     * Either bound may be null, in which case the period is unbounded on that side.
+     */
+    public ListMeetingsCommand(MeetingTime from, MeetingTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (from == null && to == null) {
+            model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        MeetingInPeriodPredicate inPeriod = new MeetingInPeriodPredicate(
+                from == null ? LocalDateTime.MIN : from.meetingTime,
+                to == null ? LocalDateTime.MAX : to.meetingTime);
+        // filtering by time rather than by the meetings found keeps meetings added or edited into the period later
+        model.updateFilteredMeetingList(inPeriod);
+        return new CommandResult(String.format(MESSAGE_MEETINGS_IN_PERIOD, model.getFilteredMeetingList().size(),
+                describePeriod()));
+    }
+
+    private String describePeriod() {
+        if (from == null) {
+            return "until " + to;
+        } else if (to == null) {
+            return "from " + from + " onwards";
+        } else {
+            return "from " + from + " to " + to;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListMeetingsCommand)) {
+            return false;
+        }
+
+        ListMeetingsCommand otherListMeetingsCommand = (ListMeetingsCommand) other;
+        return Objects.equals(from, otherListMeetingsCommand.from)
+                && Objects.equals(to, otherListMeetingsCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
     }
 }
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each kind of command has taken to parse, execute and save since the app started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a {@code StatsCommand} that shows the latencies recorded by {@code commandMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(commandMetrics.getSummary());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandMetrics == otherStatsCommand.commandMetrics;
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Records how long each phase of every command takes, in a {@link LatencyHistogram} per command word and phase.
+ * A summary of the latencies is written to the log every so often as commands are recorded.
+ * When disabled, nothing is recorded, and callers are expected to check {@link #isEnabled()} before timing
+ * anything, so that disabled metrics cost nothing.
+ */
+public class CommandMetrics {
+
+    /**
+     * Represents a phase of handling a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE
+    }
+
+    public static final Duration DEFAULT_LOG_INTERVAL = Duration.ofMinutes(10);
+
+    public static final String MESSAGE_DISABLED = "Command metrics are disabled. "
+            + "Set \"commandMetricsEnabled\" to true in preferences.json to enable them.";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been timed yet.";
+    public static final String MESSAGE_HEADER = "Command latencies in ms (median / 99th percentile / max):";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final boolean isEnabled;
+    private final long logIntervalNanos;
+    private final AtomicLong nextLogTime;
+    private final ConcurrentMap<String, LatencyHistogram[]> latenciesByCommand = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@code CommandMetrics} that logs a summary every {@link #DEFAULT_LOG_INTERVAL}.
+     */
+    public CommandMetrics(boolean isEnabled) {
+        this(isEnabled, DEFAULT_LOG_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code CommandMetrics} that logs a summary at most once every {@code logInterval}.
+     */
+    public CommandMetrics(boolean isEnabled, Duration logInterval) {
+        requireNonNull(logInterval);
+        this.isEnabled = isEnabled;
+        this.logIntervalNanos = logInterval.toNanos();
+        this.nextLogTime = new AtomicLong(System.nanoTime() + logIntervalNanos);
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Records the time taken by each phase of a command with the given {@code commandWord}, and logs a summary if
+     * one is due. Does nothing if disabled.
+     */
+    public void record(String commandWord, long parseNanos, long executeNanos, long saveNanos) {
+        requireNonNull(commandWord);
+        if (!isEnabled) {
+            return;
+        }
+
+        LatencyHistogram[] latencies = latenciesByCommand.computeIfAbsent(commandWord, unused ->
+                new LatencyHistogram[] {new LatencyHistogram(), new LatencyHistogram(), new LatencyHistogram()});
+        latencies[Phase.PARSE.ordinal()].record(parseNanos);
+        latencies[Phase.EXECUTE.ordinal()].record(executeNanos);
+        latencies[Phase.SAVE.ordinal()].record(saveNanos);
+
+        long now = System.nanoTime();
+        long logTime = nextLogTime.get();
+        // only the thread that moves the log time forward logs, so each summary is logged once
+        if (now - logTime >= 0 && nextLogTime.compareAndSet(logTime, now + logIntervalNanos)) {
+            logger.info(getSummary());
+        }
+    }
+
+    /**
+     * Returns the latencies of {@code phase} for commands with the given {@code commandWord}, if any were recorded.
+     */
+    public Optional<LatencyHistogram> getLatencies(String commandWord, Phase phase) {
+        return Optional.ofNullable(latenciesByCommand.get(commandWord)).map(latencies -> latencies[phase.ordinal()]);
+    }
+
+    /**
+     * Returns a summary of the latencies of each command, one command per line in alphabetical order.
+     */
+    public String getSummary() {
+        if (!isEnabled) {
+            return MESSAGE_DISABLED;
+        }
+        if (latenciesByCommand.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder summary = new StringBuilder(MESSAGE_HEADER);
+        for (Map.Entry<String, LatencyHistogram[]> entry : new TreeMap<>(latenciesByCommand).entrySet()) {
+            LatencyHistogram[] latencies = entry.getValue();
+            summary.append('\n').append(entry.getKey())
+                    .append(" x").append(latencies[Phase.PARSE.ordinal()].getCount())
+                    .append(": parse ").append(format(latencies[Phase.PARSE.ordinal()]))
+                    .append(", execute ").append(format(latencies[Phase.EXECUTE.ordinal()]))
+                    .append(", save ").append(format(latencies[Phase.SAVE.ordinal()]));
+        }
+        return summary.toString();
+    }
+
+    private static String format(LatencyHistogram histogram) {
+        return String.format("%.3f / %.3f / %.3f", histogram.getPercentileNanos(50) / NANOS_PER_MILLI,
+                histogram.getPercentileNanos(99) / NANOS_PER_MILLI, histogram.getMaxNanos() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.logic.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in nanoseconds that can be recorded to by many threads without locking.
+ * Like an HDR histogram, values are counted in buckets whose width grows with the value: every power of two is split
+ * into {@value #SUB_BUCKET_COUNT} buckets, so a percentile read from the histogram is within 12.5% of the true value,
+ * for any value from nanoseconds to centuries, in a fixed few kilobytes.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** Values below this are counted exactly, one bucket per value. */
+    private static final int EXACT_LIMIT = SUB_BUCKET_COUNT * 2;
+    private static final int EXACT_LIMIT_BITS = SUB_BUCKET_BITS + 1;
+    private static final int BUCKET_COUNT = EXACT_LIMIT + (Long.SIZE - 1 - EXACT_LIMIT_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(getBucket(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the mean of the recorded durations, or 0 if there are none.
+     */
+    public double getMeanNanos() {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalNanos.sum() / count;
+    }
+
+    /**
+     * Returns an upper bound on the duration that {@code percentile} percent of the recorded durations do not
+     * exceed, or 0 if there are none. The bound is never more than the longest duration recorded.
+     * Durations recorded while this runs may or may not be included.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the bucket that counts {@code value}. Each power of two from {@link #EXACT_LIMIT} up is split into
+     * {@link #SUB_BUCKET_COUNT} buckets by the bits that follow the value's highest bit.
+     */
+    static int getBucket(long value) {
+        if (value < EXACT_LIMIT) {
+            return (int) value;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return EXACT_LIMIT + (highestBit - EXACT_LIMIT_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value counted by {@code bucket}.
+     */
+    static long getBucketUpperBound(int bucket) {
+        if (bucket < EXACT_LIMIT) {
+            return bucket;
+        }
+        int highestBit = (bucket - EXACT_LIMIT) / SUB_BUCKET_COUNT + EXACT_LIMIT_BITS;
+        int subBucket = (bucket - EXACT_LIMIT) % SUB_BUCKET_COUNT;
+        int shift = highestBit - SUB_BUCKET_BITS;
+        // for the very last bucket, the shift overflows to Long.MIN_VALUE, so subtracting 1 gives Long.MAX_VALUE
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSONS;
 
@@ -11,6 +12,7 @@ import java.util.stream.Stream;
 import seedu.address.logic.commands.AddMeetingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingTime;
 import seedu.address.model.meeting.Notes;
 
@@ -26,14 +28,14 @@ public class AddMeetingCommandParser implements Parser<AddMeetingCommand> {
      */
     public AddMeetingCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATETIME, PREFIX_PERSONS, PREFIX_NOTES);
+                ArgumentTokenizer.tokenize(args, PREFIX_DATETIME, PREFIX_PERSONS, PREFIX_NOTES, PREFIX_DURATION);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_DATETIME, PREFIX_PERSONS)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddMeetingCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATETIME, PREFIX_NOTES);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATETIME, PREFIX_NOTES, PREFIX_DURATION);
         MeetingTime dateTime = ParserUtil.parseMeetingTime(argMultimap.getValue(PREFIX_DATETIME).get());
         Set<String> personList = ParserUtil.parsePersonList(argMultimap.getAllValues(PREFIX_PERSONS));
         String notes = "";
@@ -41,7 +43,12 @@ public class AddMeetingCommandParser implements Parser<AddMeetingCommand> {
             notes = argMultimap.getValue(PREFIX_NOTES).get().trim();
         }
 
-        Meeting meeting = new Meeting(dateTime, personList, new Notes(notes));
+        MeetingDuration duration = null;
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            duration = ParserUtil.parseMeetingDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        }
+
+        Meeting meeting = new Meeting(dateTime, personList, new Notes(notes), duration);
 
         return new AddMeetingCommand(meeting);
     }
@@ -12,6 +12,7 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddMeetingCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteMeetingCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -23,6 +24,8 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListMeetingsCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -36,6 +39,22 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates an {@code AddressBookParser} whose stats command reports on metrics that are disabled.
+     */
+    public AddressBookParser() {
+        this(new CommandMetrics(false));
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose stats command reports on {@code commandMetrics}.
+     */
+    public AddressBookParser(CommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -95,9 +114,15 @@ public class AddressBookParser {
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
+        case ConflictsCommand.COMMAND_WORD:
+            return new ConflictsCommand();
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandMetrics);
+
         case ListMeetingsCommand.COMMAND_WORD:
             logger.info("Executing list meetings command");
-            return new ListMeetingsCommand();
+            return new ListMeetingsCommandParser().parse(arguments);
         case EditMeetingCommand.COMMAND_WORD:
             logger.info("Executing edit meetings command");
             return new EditMeetingCommandParser().parse(arguments);
@@ -17,5 +17,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATETIME = new Prefix("dt/");
     public static final Prefix PREFIX_PERSONS = new Prefix("mp/");
     public static final Prefix PREFIX_NOTES = new Prefix("mn/");
+    public static final Prefix PREFIX_DURATION = new Prefix("md/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
 
 }
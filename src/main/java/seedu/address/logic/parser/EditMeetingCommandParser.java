@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSONS;
 
@@ -31,7 +32,7 @@ public class EditMeetingCommandParser implements Parser<EditMeetingCommand> {
     public EditMeetingCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATETIME, PREFIX_NOTES, PREFIX_PERSONS);
+                ArgumentTokenizer.tokenize(args, PREFIX_DATETIME, PREFIX_NOTES, PREFIX_PERSONS, PREFIX_DURATION);
 
         Index index;
 
@@ -42,7 +43,7 @@ public class EditMeetingCommandParser implements Parser<EditMeetingCommand> {
                     EditMeetingCommand.MESSAGE_USAGE), pe);
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATETIME, PREFIX_NOTES);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATETIME, PREFIX_NOTES, PREFIX_DURATION);
 
         EditMeetingDescriptor editMeetingDescriptor = new EditMeetingDescriptor();
 
@@ -53,6 +54,10 @@ public class EditMeetingCommandParser implements Parser<EditMeetingCommand> {
         if (argMultimap.getValue(PREFIX_NOTES).isPresent()) {
             editMeetingDescriptor.setNotes(ParserUtil.parseNotes(argMultimap.getValue(PREFIX_NOTES).get()));
         }
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            editMeetingDescriptor.setDuration(ParserUtil.parseMeetingDuration(
+                    argMultimap.getValue(PREFIX_DURATION).get()));
+        }
         parsePersonsForEdit(argMultimap.getAllValues(PREFIX_PERSONS)).ifPresent(editMeetingDescriptor::setPeople);
 
         if (!editMeetingDescriptor.isAnyFieldEdited()) {
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import seedu.address.logic.commands.ListMeetingsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meeting.MeetingTime;
+
+/**
+ * Parses input arguments and creates a new ListMeetingsCommand object
+ */
+public class ListMeetingsCommandParser implements Parser<ListMeetingsCommand> {
+
+    public static final String MESSAGE_INVALID_PERIOD = "The " + PREFIX_FROM + " time cannot be after the "
+            + PREFIX_TO + " time.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListMeetingsCommand
+     * and returns a ListMeetingsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListMeetingsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListMeetingsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+        MeetingTime from = null;
+        MeetingTime to = null;
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            from = ParserUtil.parseMeetingTime(argMultimap.getValue(PREFIX_FROM).get());
+        }
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            to = ParserUtil.parseMeetingTime(argMultimap.getValue(PREFIX_TO).get());
+        }
+
+        if (from != null && to != null && from.meetingTime.isAfter(to.meetingTime)) {
+            throw new ParseException(MESSAGE_INVALID_PERIOD);
+        }
+
+        return new ListMeetingsCommand(from, to);
+    }
+
+}
@@ -9,6 +9,7 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingTime;
 import seedu.address.model.meeting.Notes;
 import seedu.address.model.person.Address;
@@ -97,7 +98,7 @@ public class ParserUtil {
         if (!Company.isValidCompany(trimmedCompany)) {
             throw new ParseException(Company.MESSAGE_CONSTRAINTS);
         }
-        return new Company(trimmedCompany);
+        return Company.of(trimmedCompany);
     }
 
     /**
@@ -112,7 +113,7 @@ public class ParserUtil {
         if (!Position.isValidPosition(trimmedPosition)) {
             throw new ParseException(Position.MESSAGE_CONSTRAINTS);
         }
-        return new Position(trimmedPosition);
+        return Position.of(trimmedPosition);
     }
 
     /**
@@ -145,6 +146,21 @@ public class ParserUtil {
         return new Notes(trimmedNotes);
     }
 
+    /**
+     * Parses a {@code String duration} into a {@code MeetingDuration}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code duration} is invalid.
+     */
+    public static MeetingDuration parseMeetingDuration(String duration) throws ParseException {
+        requireNonNull(duration);
+        String trimmedDuration = duration.trim();
+        if (!MeetingDuration.isValidMeetingDuration(trimmedDuration)) {
+            throw new ParseException(MeetingDuration.MESSAGE_CONSTRAINTS);
+        }
+        return new MeetingDuration(trimmedDuration);
+    }
+
     /**
      * Parses a {@code String tag} into a {@code Tag}.
      * Leading and trailing whitespaces will be trimmed.
@@ -157,7 +173,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
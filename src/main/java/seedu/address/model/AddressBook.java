@@ -1,14 +1,20 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingConflict;
 import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonTagsContainsSearchPredicate;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -20,6 +26,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueMeetingList meetings;
 
+    /** Incremented on every mutation so that observers can cheaply tell whether the data has changed. */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -50,6 +59,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -57,7 +67,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code meetings} must not contain duplicate meetings.
      */
     public void setMeetings(List<Meeting> meetings) {
-        this.meetings.setMeetings(meetings, this.persons, this.meetings);
+        this.meetings.setMeetings(meetings, this.persons);
+        version++;
     }
 
     /**
@@ -80,12 +91,34 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns a predicate that matches the same persons as {@code predicate}, testing only the persons that the
+     * search index suggests.
+     *
+     * @see UniquePersonList#getIndexedPredicate(PersonContainsKeywordsPredicate)
+     */
+    public Predicate<Person> getIndexedPredicate(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.getIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate that matches the same persons as {@code predicate}, searching only the distinct tags.
+     *
+     * @see UniquePersonList#getIndexedPredicate(PersonTagsContainsSearchPredicate)
+     */
+    public Predicate<Person> getIndexedPredicate(PersonTagsContainsSearchPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.getIndexedPredicate(predicate);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
     }
 
     /**
@@ -97,6 +130,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -105,6 +139,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
     }
 
     //// meeting-level operations
@@ -117,28 +152,76 @@ public class AddressBook implements ReadOnlyAddressBook {
         return meetings.contains(meeting);
     }
 
+    /**
+     * Returns the meetings that {@code person} takes part in.
+     */
+    public List<Meeting> getMeetingsWith(Person person) {
+        requireNonNull(person);
+        return meetings.getMeetingsWith(person.getName().fullName);
+    }
+
+    /**
+     * Returns the meetings scheduled between {@code from} and {@code to}, both inclusive, ordered by time.
+     */
+    public List<Meeting> getMeetingsBetween(LocalDateTime from, LocalDateTime to) {
+        return meetings.getMeetingsBetween(from, to);
+    }
+
+    /**
+     * Returns at most {@code count} of the earliest meetings scheduled at or after {@code from}, ordered by time.
+     */
+    public List<Meeting> getUpcomingMeetings(LocalDateTime from, int count) {
+        return meetings.getUpcomingMeetings(from, count);
+    }
+
+    /**
+     * Returns every pair of overlapping meetings in the address book that share a participant.
+     */
+    public List<MeetingConflict> findMeetingConflicts() {
+        return meetings.findConflicts();
+    }
+
+    /**
+     * Returns true if {@code meeting} overlaps another meeting in the address book that shares a participant.
+     */
+    public boolean hasMeetingConflict(Meeting meeting) {
+        requireNonNull(meeting);
+        return meetings.hasConflict(meeting);
+    }
+
     /**
      * Adds a meeting to the address book.
-     * The meeting must not already exist in the address book.
+     * The meeting must not already exist in the address book, and its participants must be in the address book.
      */
-    public void addMeeting(Meeting m, ObservableList<Person> persons, ObservableList<Meeting> meetingslist) {
+    public void addMeeting(Meeting m) {
         requireNonNull(m);
-        requireNonNull(persons);
-        meetings.add(m, persons, meetingslist);
+        meetings.add(m, persons);
+        version++;
     }
 
     /**
      * Replaces the given meeting {@code target} in the list with {@code editedMeeting}.
      * {@code target} must exist in the address book.
      * The meeting identity of {@code editedMeeting} must not be the same as
-     * another existing meeting in the address book.
+     * another existing meeting in the address book, and its participants must be in the address book.
      */
-    public void setMeeting(Meeting target, Meeting editedMeeting, ObservableList<Person> persons,
-            ObservableList<Meeting> meetingslist) {
+    public void setMeeting(Meeting target, Meeting editedMeeting) {
         requireNonNull(editedMeeting);
-        requireNonNull(persons);
 
-        meetings.setMeeting(target, editedMeeting, persons, meetingslist);
+        meetings.setMeeting(target, editedMeeting, persons);
+        version++;
+    }
+
+    /**
+     * Renames {@code target} to the name of {@code editedPerson} in every meeting of {@code target}, after
+     * {@code target} has been replaced by {@code editedPerson}.
+     * No meeting is changed if any renamed meeting is invalid.
+     */
+    public void renameMeetingParticipant(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        meetings.renameParticipant(target.getName().fullName, editedPerson.getName().fullName, persons);
+        version++;
     }
 
     /**
@@ -147,6 +230,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeMeeting(Meeting key) {
         meetings.remove(key);
+        version++;
     }
 
 
@@ -160,6 +244,11 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
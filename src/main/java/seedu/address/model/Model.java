@@ -1,13 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingConflict;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonTagsContainsSearchPredicate;
 
 /**
  * The API of the Model component.
@@ -63,6 +68,20 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns a predicate that matches the same persons as {@code predicate}, but only tests in full the persons
+     * that the address book's search index suggests. It keeps matching correctly as persons are added and edited,
+     * so it can be left on the filtered person list.
+     */
+    Predicate<Person> getIndexedPredicate(PersonContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns a predicate that matches the same persons as {@code predicate}, but only compares the distinct tags in
+     * the address book against the search term. Like {@link #getIndexedPredicate(PersonContainsKeywordsPredicate)},
+     * it can be left on the filtered person list.
+     */
+    Predicate<Person> getIndexedPredicate(PersonTagsContainsSearchPredicate predicate);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -87,6 +106,34 @@ public interface Model {
      */
     boolean hasMeeting(Meeting meeting);
 
+    /**
+     * Returns all meetings in the address book that {@code person} takes part in, regardless of the current filter
+     * on the meeting list.
+     */
+    List<Meeting> getMeetingsWith(Person person);
+
+    /**
+     * Returns all meetings in the address book scheduled between {@code from} and {@code to}, both inclusive,
+     * ordered by time.
+     */
+    List<Meeting> getMeetingsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns at most {@code count} of the earliest meetings in the address book scheduled at or after
+     * {@code from}, ordered by time.
+     */
+    List<Meeting> getUpcomingMeetings(LocalDateTime from, int count);
+
+    /**
+     * Returns every pair of overlapping meetings in the address book that share a participant.
+     */
+    List<MeetingConflict> findMeetingConflicts();
+
+    /**
+     * Returns true if {@code meeting} overlaps another meeting in the address book that shares a participant.
+     */
+    boolean hasMeetingConflict(Meeting meeting);
+
     /**
      * Deletes the given meeting.
      * The meeting must exist in the address book.
@@ -108,6 +155,13 @@ public interface Model {
 
     void setMeeting(Meeting target, Meeting editedMeeting);
 
+    /**
+     * Renames {@code target} to the name of {@code editedPerson} in every meeting of {@code target}.
+     * {@code target} must already have been replaced by {@code editedPerson}.
+     * No meeting is changed if any of the renamed meetings clashes with another meeting.
+     */
+    void renameMeetingParticipant(Person target, Person editedPerson);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -4,17 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingConflict;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonTagsContainsSearchPredicate;
+import seedu.address.model.util.LazySortedList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -26,7 +31,7 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Meeting> filteredMeetings;
-    private final SortedList<Person> sortedPersons;
+    private final LazySortedList<Person> sortedPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,7 +45,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredMeetings = new FilteredList<>(this.addressBook.getMeetingList());
-        sortedPersons = new SortedList<>(filteredPersons);
+        sortedPersons = new LazySortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -100,6 +105,18 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Predicate<Person> getIndexedPredicate(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getIndexedPredicate(predicate);
+    }
+
+    @Override
+    public Predicate<Person> getIndexedPredicate(PersonTagsContainsSearchPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getIndexedPredicate(predicate);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -108,7 +125,10 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        // resetting an unfiltered list again would be wasted on every one of many persons added in a row
+        if (filteredPersons.getPredicate() != PREDICATE_SHOW_ALL_PERSONS) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
     }
 
     @Override
@@ -124,6 +144,35 @@ public class ModelManager implements Model {
         return addressBook.hasMeeting(meeting);
     }
 
+    @Override
+    public List<Meeting> getMeetingsWith(Person person) {
+        requireNonNull(person);
+        return addressBook.getMeetingsWith(person);
+    }
+
+    @Override
+    public List<Meeting> getMeetingsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getMeetingsBetween(from, to);
+    }
+
+    @Override
+    public List<Meeting> getUpcomingMeetings(LocalDateTime from, int count) {
+        requireNonNull(from);
+        return addressBook.getUpcomingMeetings(from, count);
+    }
+
+    @Override
+    public List<MeetingConflict> findMeetingConflicts() {
+        return addressBook.findMeetingConflicts();
+    }
+
+    @Override
+    public boolean hasMeetingConflict(Meeting meeting) {
+        requireNonNull(meeting);
+        return addressBook.hasMeetingConflict(meeting);
+    }
+
     @Override
     public void deleteMeeting(Meeting target) {
         addressBook.removeMeeting(target);
@@ -131,14 +180,21 @@ public class ModelManager implements Model {
 
     @Override
     public void addMeeting(Meeting meeting) {
-        addressBook.addMeeting(meeting, filteredPersons, filteredMeetings);
+        addressBook.addMeeting(meeting);
     }
 
     @Override
     public void setMeeting(Meeting target, Meeting editedMeeting) {
         requireAllNonNull(target, editedMeeting);
 
-        addressBook.setMeeting(target, editedMeeting, filteredPersons, filteredMeetings);
+        addressBook.setMeeting(target, editedMeeting);
+    }
+
+    @Override
+    public void renameMeetingParticipant(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        addressBook.renameMeetingParticipant(target, editedPerson);
     }
 
     @Override
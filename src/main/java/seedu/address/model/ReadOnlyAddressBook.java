@@ -16,4 +16,10 @@ public interface ReadOnlyAddressBook {
     ObservableList<Person> getPersonList();
     ObservableList<Meeting> getMeetingList();
 
+    /**
+     * Returns a counter that changes whenever the persons or meetings in the address book are modified.
+     * Two equal versions of the same address book are guaranteed to hold the same data.
+     */
+    long getVersion();
+
 }
@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DurabilityPolicy;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    boolean isAddressBookJournalEnabled();
+
+    boolean isAddressBookPrettyPrinted();
+
+    DurabilityPolicy getAddressBookDurabilityPolicy();
+
+    StorageFormat getAddressBookStorageFormat();
+
+    boolean isAddressBookLoadedInBackground();
+
+    boolean isCommandMetricsEnabled();
+
 }
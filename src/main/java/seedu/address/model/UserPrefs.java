@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DurabilityPolicy;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean addressBookJournalEnabled = false;
+    private boolean addressBookPrettyPrinted = true;
+    private DurabilityPolicy addressBookDurabilityPolicy = DurabilityPolicy.PERIODIC;
+    private StorageFormat addressBookStorageFormat = StorageFormat.JSON;
+    private boolean addressBookLoadedInBackground = true;
+    private boolean commandMetricsEnabled = true;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookJournalEnabled(newUserPrefs.isAddressBookJournalEnabled());
+        setAddressBookPrettyPrinted(newUserPrefs.isAddressBookPrettyPrinted());
+        setAddressBookDurabilityPolicy(newUserPrefs.getAddressBookDurabilityPolicy());
+        setAddressBookStorageFormat(newUserPrefs.getAddressBookStorageFormat());
+        setAddressBookLoadedInBackground(newUserPrefs.isAddressBookLoadedInBackground());
+        setCommandMetricsEnabled(newUserPrefs.isCommandMetricsEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,56 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    public boolean isAddressBookPrettyPrinted() {
+        return addressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean addressBookPrettyPrinted) {
+        this.addressBookPrettyPrinted = addressBookPrettyPrinted;
+    }
+
+    public DurabilityPolicy getAddressBookDurabilityPolicy() {
+        return addressBookDurabilityPolicy;
+    }
+
+    public void setAddressBookDurabilityPolicy(DurabilityPolicy addressBookDurabilityPolicy) {
+        requireNonNull(addressBookDurabilityPolicy);
+        this.addressBookDurabilityPolicy = addressBookDurabilityPolicy;
+    }
+
+    public StorageFormat getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(StorageFormat addressBookStorageFormat) {
+        requireNonNull(addressBookStorageFormat);
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    public boolean isAddressBookLoadedInBackground() {
+        return addressBookLoadedInBackground;
+    }
+
+    public void setAddressBookLoadedInBackground(boolean addressBookLoadedInBackground) {
+        this.addressBookLoadedInBackground = addressBookLoadedInBackground;
+    }
+
+    public boolean isCommandMetricsEnabled() {
+        return commandMetricsEnabled;
+    }
+
+    public void setCommandMetricsEnabled(boolean commandMetricsEnabled) {
+        this.commandMetricsEnabled = commandMetricsEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +133,20 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookJournalEnabled == otherUserPrefs.addressBookJournalEnabled
+                && addressBookPrettyPrinted == otherUserPrefs.addressBookPrettyPrinted
+                && addressBookDurabilityPolicy == otherUserPrefs.addressBookDurabilityPolicy
+                && addressBookStorageFormat == otherUserPrefs.addressBookStorageFormat
+                && addressBookLoadedInBackground == otherUserPrefs.addressBookLoadedInBackground
+                && commandMetricsEnabled == otherUserPrefs.commandMetricsEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookJournalEnabled, addressBookPrettyPrinted,
+                addressBookDurabilityPolicy, addressBookStorageFormat, addressBookLoadedInBackground,
+                commandMetricsEnabled);
     }
 
     @Override
@@ -82,6 +154,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nJournal enabled : " + addressBookJournalEnabled);
+        sb.append("\nPretty-printed data file : " + addressBookPrettyPrinted);
+        sb.append("\nData file durability : " + addressBookDurabilityPolicy);
+        sb.append("\nData file format : " + addressBookStorageFormat);
+        sb.append("\nData file loaded in background : " + addressBookLoadedInBackground);
+        sb.append("\nCommand metrics enabled : " + commandMetricsEnabled);
         return sb.toString();
     }
 
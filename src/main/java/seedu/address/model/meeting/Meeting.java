@@ -1,10 +1,13 @@
 package seedu.address.model.meeting;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -19,22 +22,62 @@ public class Meeting {
     private final MeetingTime meetingTime;
     private final Set<String> people = new HashSet<>();
     private final Notes notes;
+    private final MeetingDuration duration;
 
 
     /**
      * Every field must be present and not null.
      */
     public Meeting(MeetingTime meetingTime, Set<String> people, Notes notes) {
+        this(meetingTime, people, notes, null);
+    }
+
+    /**
+     * Every field except {@code duration} must be present and not null.
+     * A meeting without a duration only takes up the instant at which it starts.
+     */
+    public Meeting(MeetingTime meetingTime, Set<String> people, Notes notes, MeetingDuration duration) {
         requireAllNonNull(meetingTime, people, notes);
         this.meetingTime = meetingTime;
         this.people.addAll(people);
         this.notes = notes;
+        this.duration = duration;
     }
 
     public MeetingTime getDateTime() {
         return meetingTime;
     }
 
+    public Optional<MeetingDuration> getDuration() {
+        return Optional.ofNullable(duration);
+    }
+
+    /**
+     * Returns the time at which this meeting ends, which is its start time if it has no duration.
+     */
+    public LocalDateTime getEndTime() {
+        return duration == null ? meetingTime.meetingTime : meetingTime.meetingTime.plusMinutes(duration.minutes);
+    }
+
+    /**
+     * Returns true if this meeting and {@code otherMeeting} take place at the same time, that is, if they start at
+     * the same time or one starts before the other ends.
+     */
+    public boolean overlaps(Meeting otherMeeting) {
+        requireNonNull(otherMeeting);
+        return overlaps(meetingTime.meetingTime, getEndTime(), otherMeeting.meetingTime.meetingTime,
+                otherMeeting.getEndTime());
+    }
+
+    /**
+     * Returns true if a meeting from {@code start} to {@code end} overlaps one from {@code otherStart} to
+     * {@code otherEnd}, as defined by {@link #overlaps(Meeting)}.
+     */
+    static boolean overlaps(LocalDateTime start, LocalDateTime end, LocalDateTime otherStart,
+            LocalDateTime otherEnd) {
+        return start.equals(otherStart) || (start.isBefore(otherEnd) && otherStart.isBefore(end));
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -93,6 +136,7 @@ public class Meeting {
                 .add("meetingTime", meetingTime)
                 .add("people", people)
                 .add("notes", notes)
+                .add("duration", duration)
                 .toString();
     }
 
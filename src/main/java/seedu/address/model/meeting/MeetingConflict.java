@@ -0,0 +1,78 @@
+package seedu.address.model.meeting;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents two overlapping meetings that share at least one participant.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class MeetingConflict {
+
+    private final Meeting earlier;
+    private final Meeting later;
+    private final Set<String> sharedParticipants;
+
+    /**
+     * Every field must be present and not null. {@code earlier} must not start after {@code later}.
+     */
+    public MeetingConflict(Meeting earlier, Meeting later, Set<String> sharedParticipants) {
+        requireAllNonNull(earlier, later, sharedParticipants);
+        assert !earlier.getDateTime().meetingTime.isAfter(later.getDateTime().meetingTime);
+        this.earlier = earlier;
+        this.later = later;
+        this.sharedParticipants = Collections.unmodifiableSet(new TreeSet<>(sharedParticipants));
+    }
+
+    public Meeting getEarlier() {
+        return earlier;
+    }
+
+    public Meeting getLater() {
+        return later;
+    }
+
+    /**
+     * Returns the participants of both meetings, in alphabetical order.
+     */
+    public Set<String> getSharedParticipants() {
+        return sharedParticipants;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MeetingConflict)) {
+            return false;
+        }
+
+        MeetingConflict otherConflict = (MeetingConflict) other;
+        return earlier.equals(otherConflict.earlier)
+                && later.equals(otherConflict.later)
+                && sharedParticipants.equals(otherConflict.sharedParticipants);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(earlier, later, sharedParticipants);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("earlier", earlier)
+                .add("later", later)
+                .add("sharedParticipants", sharedParticipants)
+                .toString();
+    }
+}
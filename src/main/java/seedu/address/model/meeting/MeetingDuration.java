@@ -0,0 +1,71 @@
+package seedu.address.model.meeting;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.regex.Pattern;
+
+/**
+ * Represents how long a Meeting lasts, in whole minutes.
+ * Guarantees: immutable; is valid as declared in {@link #isValidMeetingDuration(String)}
+ */
+public class MeetingDuration {
+
+    public static final int MAX_MINUTES = 24 * 60;
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Meeting duration should be a whole number of minutes, from 1 to " + MAX_MINUTES;
+    public static final String VALIDATION_REGEX = "\\d{1,4}";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    public final int minutes;
+
+    /**
+     * Constructs a {@code MeetingDuration}.
+     *
+     * @param minutes A valid number of minutes.
+     */
+    public MeetingDuration(String minutes) {
+        requireNonNull(minutes);
+        checkArgument(isValidMeetingDuration(minutes), MESSAGE_CONSTRAINTS);
+        this.minutes = Integer.parseInt(minutes);
+    }
+
+    /**
+     * Returns true if a given string is a valid meeting duration.
+     */
+    public static boolean isValidMeetingDuration(String test) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
+            return false;
+        }
+        int minutes = Integer.parseInt(test);
+        return minutes > 0 && minutes <= MAX_MINUTES;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(minutes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MeetingDuration)) {
+            return false;
+        }
+
+        MeetingDuration otherDuration = (MeetingDuration) other;
+        return minutes == otherDuration.minutes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(minutes);
+    }
+
+}
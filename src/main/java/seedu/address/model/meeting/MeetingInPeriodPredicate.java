@@ -0,0 +1,59 @@
+package seedu.address.model.meeting;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Meeting} is scheduled within a period, both ends inclusive.
+ */
+public class MeetingInPeriodPredicate implements Predicate<Meeting> {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Constructs a {@code MeetingInPeriodPredicate} matching meetings scheduled from {@code from} to {@code to}.
+     */
+    public MeetingInPeriodPredicate(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    @Override
+    public boolean test(Meeting meeting) {
+        LocalDateTime meetingTime = meeting.getDateTime().meetingTime;
+        return !meetingTime.isBefore(from) && !meetingTime.isAfter(to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MeetingInPeriodPredicate)) {
+            return false;
+        }
+
+        MeetingInPeriodPredicate otherMeetingInPeriodPredicate = (MeetingInPeriodPredicate) other;
+        return from.equals(otherMeetingInPeriodPredicate.from) && to.equals(otherMeetingInPeriodPredicate.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
@@ -0,0 +1,229 @@
+package seedu.address.model.meeting;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of meetings, ordered by start time, that can efficiently find the meetings overlapping a given meeting.
+ * It is an AVL tree keyed on start time in which every node also records the latest end time in its subtree,
+ * so that subtrees that end before the period being searched are skipped.
+ * Meetings are compared by instance, so meetings that are equal but distinct can both be held.
+ */
+class MeetingIntervalTree {
+
+    private Node root;
+
+    /**
+     * Returns true if the tree holds no meetings.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Adds {@code meeting} to the tree.
+     */
+    public void add(Meeting meeting) {
+        requireNonNull(meeting);
+        root = insert(root, new Node(meeting));
+    }
+
+    /**
+     * Removes {@code meeting} from the tree, if it is held.
+     *
+     * @return true if {@code meeting} was held.
+     */
+    public boolean remove(Meeting meeting) {
+        requireNonNull(meeting);
+        RemovalResult result = new RemovalResult();
+        root = delete(root, meeting, meeting.getDateTime().meetingTime, result);
+        return result.isRemoved;
+    }
+
+    /**
+     * Returns the meetings that overlap {@code meeting}, as defined by {@link Meeting#overlaps(Meeting)},
+     * ordered by start time. Runs in O(log n + k) for k overlapping meetings.
+     */
+    public List<Meeting> findOverlapping(Meeting meeting) {
+        requireNonNull(meeting);
+        List<Meeting> overlapping = new ArrayList<>();
+        collectOverlapping(root, meeting.getDateTime().meetingTime, meeting.getEndTime(), overlapping);
+        return overlapping;
+    }
+
+    /**
+     * Returns all meetings in the tree, ordered by start time.
+     */
+    public List<Meeting> toList() {
+        List<Meeting> meetings = new ArrayList<>();
+        collectAll(root, meetings);
+        return meetings;
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime start, LocalDateTime end, List<Meeting> result) {
+        // no meeting in this subtree ends late enough to overlap the period
+        if (node == null || node.maxEnd.isBefore(start)) {
+            return;
+        }
+
+        collectOverlapping(node.left, start, end, result);
+        // meetings to the right start at or after this one, so none of them can overlap once this one starts too late
+        if (node.start.isAfter(end)) {
+            return;
+        }
+        if (Meeting.overlaps(node.start, node.end, start, end)) {
+            result.add(node.meeting);
+        }
+        collectOverlapping(node.right, start, end, result);
+    }
+
+    private static void collectAll(Node node, List<Meeting> result) {
+        if (node == null) {
+            return;
+        }
+        collectAll(node.left, result);
+        result.add(node.meeting);
+        collectAll(node.right, result);
+    }
+
+    private static Node insert(Node node, Node toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+        if (toInsert.start.isBefore(node.start)) {
+            node.left = insert(node.left, toInsert);
+        } else {
+            node.right = insert(node.right, toInsert);
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, Meeting meeting, LocalDateTime start, RemovalResult result) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = start.compareTo(node.start);
+        if (comparison < 0) {
+            node.left = delete(node.left, meeting, start, result);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, meeting, start, result);
+        } else if (node.meeting == meeting) {
+            result.isRemoved = true;
+            return deleteNode(node);
+        } else {
+            // rotations can leave meetings with the same start time on either side
+            node.left = delete(node.left, meeting, start, result);
+            if (!result.isRemoved) {
+                node.right = delete(node.right, meeting, start, result);
+            }
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Returns the subtree that remains after removing {@code node} from the subtree rooted at it.
+     */
+    private static Node deleteNode(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = deleteMin(node.right);
+        successor.left = node.left;
+        return rebalance(successor);
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static class Node {
+        private final Meeting meeting;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private LocalDateTime maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        Node(Meeting meeting) {
+            this.meeting = meeting;
+            this.start = meeting.getDateTime().meetingTime;
+            this.end = meeting.getEndTime();
+            this.maxEnd = end;
+        }
+
+        /**
+         * Recomputes the height and latest end time of this subtree from those of its children.
+         */
+        void update() {
+            height = 1 + Math.max(height(left), height(right));
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+
+    private static class RemovalResult {
+        private boolean isRemoved = false;
+    }
+}
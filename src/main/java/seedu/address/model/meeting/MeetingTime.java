@@ -42,6 +42,14 @@ public class MeetingTime {
         this.meetingTime = parseDateTime(inputTime);
     }
 
+    /**
+     * Constructs a {@code MeetingTime} at {@code meetingTime}.
+     */
+    public MeetingTime(LocalDateTime meetingTime) {
+        requireNonNull(meetingTime);
+        this.meetingTime = meetingTime;
+    }
+
     private static LocalDateTime parseDateTime(String inputTime) {
         for (int i = 0; i < ACCEPTED_FORMATS.length; i++) {
             DateTimeFormatter formatter = ACCEPTED_FORMATS[i];
@@ -3,12 +3,24 @@ package seedu.address.model.meeting;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.meeting.exceptions.DuplicateMeetingException;
+import seedu.address.model.meeting.exceptions.InvalidMeetingException;
 import seedu.address.model.meeting.exceptions.MeetingNotFoundException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -22,6 +34,13 @@ import seedu.address.model.person.UniquePersonList;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the list, meetings are indexed by the names of their participants and by their time, so that the
+ * meetings of a person, or those within a period of time, can be looked up without scanning the list.
+ * The meetings of each participant are kept in a {@link MeetingIntervalTree}, which is used to reject meetings
+ * that overlap another meeting of one of their participants.
+ * The indexes are updated before the list, so that listeners of the list, such as filters that look up the meetings
+ * of a participant, already see the change.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniqueMeetingList implements Iterable<Meeting> {
@@ -29,30 +48,33 @@ public class UniqueMeetingList implements Iterable<Meeting> {
     private final ObservableList<Meeting> internalList = FXCollections.observableArrayList();
     private final ObservableList<Meeting> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, MeetingIntervalTree> meetingsByPerson = new HashMap<>();
+    private final NavigableMap<LocalDateTime, List<Meeting>> meetingsByTime = new TreeMap<>();
 
     /**
      * Returns true if the list contains an equivalent meeting as the given argument.
      */
     public boolean contains(Meeting toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return getMeetingsAt(toCheck.getDateTime()).stream().anyMatch(toCheck::equals);
     }
 
     /**
      * Adds a meeting to the list.
-     * The meeting must not already exist in the list.
+     * The meeting must not already exist in the list, and its participants must all be in {@code persons}.
+     *
+     * @throws InvalidMeetingException if the participants are not in {@code persons} or already have an overlapping
+     *     meeting.
      */
-    public void add(Meeting toAdd, ObservableList<Person> persons, ObservableList<Meeting> meetings) {
-        requireNonNull(toAdd);
+    public void add(Meeting toAdd, UniquePersonList persons) {
+        requireAllNonNull(toAdd, persons);
         if (contains(toAdd)) {
             throw new DuplicateMeetingException();
         }
-        String exists = personsExist(toAdd, persons, meetings);
-        if (exists != "true") {
-            // add custom exception here
-            throw new IllegalArgumentException(exists);
-        }
+        validateParticipants(toAdd, persons);
+        validateNoOverlap(toAdd, null);
 
+        index(toAdd);
         internalList.add(toAdd);
     }
 
@@ -60,10 +82,12 @@ public class UniqueMeetingList implements Iterable<Meeting> {
      * Replaces the meeting {@code target} in the list with {@code editedMeeting}.
      * {@code target} must exist in the list.
      * The meeting identity of {@code editedMeeting} must not be the same as another existing meeting in the list.
+     *
+     * @throws InvalidMeetingException if the participants are not in {@code persons} or already have another
+     *     overlapping meeting.
      */
-    public void setMeeting(Meeting target, Meeting editedMeeting, ObservableList<Person> persons,
-            ObservableList<Meeting> meetings) {
-        requireAllNonNull(target, editedMeeting);
+    public void setMeeting(Meeting target, Meeting editedMeeting, UniquePersonList persons) {
+        requireAllNonNull(target, editedMeeting, persons);
 
         int index = internalList.indexOf(target);
         if (index == -1) {
@@ -74,49 +98,200 @@ public class UniqueMeetingList implements Iterable<Meeting> {
             throw new DuplicateMeetingException();
         }
 
-        String exists = personsExist(editedMeeting, persons, meetings);
-        if (exists != "true") {
-            // add custom exception here
-            throw new IllegalArgumentException(exists);
-        }
+        validateParticipants(editedMeeting, persons);
+        validateNoOverlap(editedMeeting, internalList.get(index));
 
+        unindex(internalList.get(index));
+        index(editedMeeting);
         internalList.set(index, editedMeeting);
     }
 
+    /**
+     * Replaces {@code oldName} with {@code newName} among the participants of every meeting of {@code oldName}.
+     * Every renamed meeting is checked before any is replaced, so the list is left unchanged if any of them is invalid.
+     *
+     * @throws InvalidMeetingException if {@code newName} is not in {@code persons}, or a renamed meeting overlaps
+     *     another meeting of {@code newName}.
+     * @throws DuplicateMeetingException if two of the renamed meetings would be the same meeting.
+     */
+    public void renameParticipant(String oldName, String newName, UniquePersonList persons) {
+        requireAllNonNull(oldName, newName, persons);
+        if (oldName.equals(newName)) {
+            return;
+        }
+
+        List<Meeting> targets = getMeetingsWith(oldName);
+        Set<Meeting> targetSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        targetSet.addAll(targets);
+        MeetingIntervalTree meetingsOfNewName = meetingsByPerson.get(newName);
+        List<Meeting> renamedMeetings = new ArrayList<>();
+        for (Meeting target : targets) {
+            Set<String> participants = new HashSet<>(target.getPersonList());
+            participants.remove(oldName);
+            participants.add(newName);
+            Meeting renamed = new Meeting(target.getDateTime(), participants, target.getNotes(),
+                    target.getDuration().orElse(null));
+            validateParticipants(renamed, persons);
+
+            // the other participants keep their meetings at the same times, so only those of newName can clash;
+            // a meeting the same as the renamed one would have newName too, so it is caught here as well
+            if (meetingsOfNewName != null) {
+                for (Meeting m : meetingsOfNewName.findOverlapping(renamed)) {
+                    if (!targetSet.contains(m)) {
+                        throw InvalidMeetingException.clashingMeeting(newName, m);
+                    }
+                }
+            }
+            if (renamedMeetings.contains(renamed)) {
+                throw new DuplicateMeetingException();
+            }
+            renamedMeetings.add(renamed);
+        }
+
+        for (int i = 0; i < targets.size(); i++) {
+            unindex(targets.get(i));
+            index(renamedMeetings.get(i));
+            internalList.set(internalList.indexOf(targets.get(i)), renamedMeetings.get(i));
+        }
+    }
+
     /**
      * Removes the equivalent meeting from the list.
      * The meeting must exist in the list.
      */
     public void remove(Meeting toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new MeetingNotFoundException();
         }
+        unindex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setMeetings(UniqueMeetingList replacement) {
         requireNonNull(replacement);
+        reindex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code meetings}.
-     * {@code meetings} must not contain duplicate meetings.
+     * {@code meetings} must not contain duplicate meetings. Overlapping meetings are accepted, so that a data file
+     * whose meetings overlap, such as one edited by hand, still loads; they can be found with
+     * {@link #findConflicts()}.
+     *
+     * @throws InvalidMeetingException if any of the meetings has participants that are not in {@code persons}.
+     * @throws DuplicateMeetingException if {@code meetings} contains duplicate meetings.
      */
-    public void setMeetings(List<Meeting> meetings, UniquePersonList persons, UniqueMeetingList meetingList) {
-        requireAllNonNull(persons);
+    public void setMeetings(List<Meeting> meetings, UniquePersonList persons) {
+        requireAllNonNull(meetings, persons);
         for (Meeting m : meetings) {
-            String exists = personsExist(m, persons.asUnmodifiableObservableList(),
-                    meetingList.asUnmodifiableObservableList());
-            if (exists != "true") {
-                // add custom exception here
-                throw new IllegalArgumentException(exists);
-            }
+            validateParticipants(m, persons);
+        }
+        if (!meetingsAreUnique(meetings)) {
+            throw new DuplicateMeetingException();
         }
 
+        reindex(meetings);
         internalList.setAll(meetings);
     }
 
+    /**
+     * Returns the meetings that the person named {@code personName} takes part in, ordered by time.
+     */
+    public List<Meeting> getMeetingsWith(String personName) {
+        requireNonNull(personName);
+        MeetingIntervalTree meetings = meetingsByPerson.get(personName);
+        return meetings == null ? Collections.emptyList() : meetings.toList();
+    }
+
+    /**
+     * Returns true if another meeting in the list that shares a participant with {@code meeting} overlaps it.
+     */
+    public boolean hasConflict(Meeting meeting) {
+        requireNonNull(meeting);
+        for (String participant : meeting.getPersonList()) {
+            MeetingIntervalTree meetingsOfParticipant = meetingsByPerson.get(participant);
+            if (meetingsOfParticipant != null
+                    && meetingsOfParticipant.findOverlapping(meeting).stream().anyMatch(m -> m != meeting)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns every pair of overlapping meetings that share a participant, ordered by the start time of the later
+     * meeting and then of the earlier one.
+     * Finds them in a single pass over the meetings in time order, keeping only the meetings of each participant
+     * that are still in progress.
+     */
+    public List<MeetingConflict> findConflicts() {
+        List<MeetingConflict> conflicts = new ArrayList<>();
+        Map<String, List<Meeting>> meetingsInProgress = new HashMap<>();
+        for (List<Meeting> meetingsAtTime : meetingsByTime.values()) {
+            for (Meeting meeting : meetingsAtTime) {
+                Map<Meeting, Set<String>> sharedParticipants = new IdentityHashMap<>();
+                for (String participant : meeting.getPersonList()) {
+                    List<Meeting> inProgress = meetingsInProgress.computeIfAbsent(participant,
+                            unused -> new ArrayList<>());
+                    // meetings are visited in time order, so one that has ended cannot overlap any later meeting
+                    inProgress.removeIf(earlier -> !earlier.overlaps(meeting));
+                    for (Meeting earlier : inProgress) {
+                        sharedParticipants.computeIfAbsent(earlier, unused -> new HashSet<>()).add(participant);
+                    }
+                    inProgress.add(meeting);
+                }
+                sharedParticipants.entrySet().stream()
+                        .sorted(Comparator.comparing(entry -> entry.getKey().getDateTime().meetingTime))
+                        .forEach(entry -> conflicts.add(new MeetingConflict(entry.getKey(), meeting,
+                                entry.getValue())));
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns the meetings scheduled at exactly {@code meetingTime}.
+     */
+    public List<Meeting> getMeetingsAt(MeetingTime meetingTime) {
+        requireNonNull(meetingTime);
+        List<Meeting> meetings = meetingsByTime.get(meetingTime.meetingTime);
+        return meetings == null ? Collections.emptyList() : Collections.unmodifiableList(meetings);
+    }
+
+    /**
+     * Returns the meetings scheduled between {@code from} and {@code to}, both inclusive, ordered by time.
+     */
+    public List<Meeting> getMeetingsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return Collections.emptyList();
+        }
+        List<Meeting> meetings = new ArrayList<>();
+        meetingsByTime.subMap(from, true, to, true).values().forEach(meetings::addAll);
+        return meetings;
+    }
+
+    /**
+     * Returns at most {@code count} of the earliest meetings scheduled at or after {@code from}, ordered by time.
+     */
+    public List<Meeting> getUpcomingMeetings(LocalDateTime from, int count) {
+        requireNonNull(from);
+        assert count >= 0;
+        List<Meeting> meetings = new ArrayList<>();
+        for (List<Meeting> meetingsAtTime : meetingsByTime.tailMap(from, true).values()) {
+            for (Meeting meeting : meetingsAtTime) {
+                if (meetings.size() == count) {
+                    return meetings;
+                }
+                meetings.add(meeting);
+            }
+        }
+        return meetings;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -154,31 +329,88 @@ public class UniqueMeetingList implements Iterable<Meeting> {
         return internalList.toString();
     }
 
+    private void index(Meeting meeting) {
+        for (String personName : meeting.getPersonList()) {
+            meetingsByPerson.computeIfAbsent(personName, unused -> new MeetingIntervalTree()).add(meeting);
+        }
+        meetingsByTime.computeIfAbsent(meeting.getDateTime().meetingTime, unused -> new ArrayList<>()).add(meeting);
+    }
+
+    private void unindex(Meeting meeting) {
+        for (String personName : meeting.getPersonList()) {
+            MeetingIntervalTree meetings = meetingsByPerson.get(personName);
+            meetings.remove(meeting);
+            if (meetings.isEmpty()) {
+                meetingsByPerson.remove(personName);
+            }
+        }
+
+        List<Meeting> meetingsAtTime = meetingsByTime.get(meeting.getDateTime().meetingTime);
+        // remove this exact instance, as meetings with different notes are still equal
+        meetingsAtTime.removeIf(indexed -> indexed == meeting);
+        if (meetingsAtTime.isEmpty()) {
+            meetingsByTime.remove(meeting.getDateTime().meetingTime);
+        }
+    }
+
+    private void reindex(List<Meeting> meetings) {
+        meetingsByPerson.clear();
+        meetingsByTime.clear();
+        meetings.forEach(this::index);
+    }
+
+    /**
+     * Returns true if {@code meetings} contains only unique meetings.
+     * Equal meetings start at the same time, so each meeting is only compared with those starting with it.
+     */
+    private static boolean meetingsAreUnique(List<Meeting> meetings) {
+        Map<LocalDateTime, List<Meeting>> meetingsByStart = new HashMap<>();
+        for (Meeting meeting : meetings) {
+            List<Meeting> meetingsAtStart = meetingsByStart.computeIfAbsent(meeting.getDateTime().meetingTime,
+                    unused -> new ArrayList<>());
+            if (meetingsAtStart.contains(meeting)) {
+                return false;
+            }
+            meetingsAtStart.add(meeting);
+        }
+        return true;
+    }
+
     /**
-     * Returns "true" if {@code meeting} contains people who exist in the addressbook.
+     * Checks that {@code meeting} has participants and that every one of them is in {@code persons}.
+     *
+     * @throws InvalidMeetingException describing the first problem found.
      */
-    private String personsExist(Meeting meeting, ObservableList<Person> persons, ObservableList<Meeting> meetings) {
-        System.out.println("personsExist " + meeting.getPersonList());
-        // check if empty string in persons
-        if (meeting.getPersonList().isEmpty() || meeting.getPersonList().contains("")) {
-            return "Contact name after mp/ prefix cannot be left empty. "
-                + "Please retry the command without any empty contact name field(s) (e.g. mp/  )";
+    private void validateParticipants(Meeting meeting, UniquePersonList persons) {
+        Set<String> participants = meeting.getPersonList();
+        if (participants.isEmpty() || participants.contains("")) {
+            throw InvalidMeetingException.emptyParticipant();
         }
-        // check if every person in the meeting is in the address book
-        for (String p : meeting.getPersonList()) {
-            if (!persons.stream().anyMatch(person -> person.getName().toString().equals(p))) {
-                return "Contact " + p + " is not in the address book.";
+
+        for (String participant : participants) {
+            if (!persons.containsName(participant)) {
+                throw InvalidMeetingException.unknownParticipant(participant);
             }
         }
-        for (Meeting m : meetings) {
-            if (m.getDateTime().equals(meeting.getDateTime())) {
-                for (String p : meeting.getPersonList()) {
-                    if (m.getPersonList().contains(p)) {
-                        return "Meeting with " + p + " already exists at " + m.getDateTime() + ".";
-                    }
+    }
+
+    /**
+     * Checks that no participant of {@code meeting} has another meeting in this list that overlaps it, other than
+     * {@code replaced}, which may be null.
+     *
+     * @throws InvalidMeetingException naming the first clashing meeting found.
+     */
+    private void validateNoOverlap(Meeting meeting, Meeting replaced) {
+        for (String participant : meeting.getPersonList()) {
+            MeetingIntervalTree meetingsOfParticipant = meetingsByPerson.get(participant);
+            if (meetingsOfParticipant == null) {
+                continue;
+            }
+            for (Meeting m : meetingsOfParticipant.findOverlapping(meeting)) {
+                if (m != replaced) {
+                    throw InvalidMeetingException.clashingMeeting(participant, m);
                 }
             }
         }
-        return "true";
     }
 }
@@ -0,0 +1,83 @@
+package seedu.address.model.meeting.exceptions;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * Signals that a meeting cannot be added to the address book as it refers to contacts that are not in the address
+ * book, or clashes with another meeting of one of its participants.
+ */
+public class InvalidMeetingException extends IllegalArgumentException {
+
+    /**
+     * The ways in which a meeting can be invalid.
+     */
+    public enum Reason {
+        EMPTY_PARTICIPANT,
+        UNKNOWN_PARTICIPANT,
+        CLASHING_MEETING
+    }
+
+    private final Reason reason;
+    private final String participant;
+    /** Meetings are not serializable, so the clashing meeting is lost if the exception is serialized. */
+    private final transient Meeting clashingMeeting;
+
+    private InvalidMeetingException(String message, Reason reason, String participant, Meeting clashingMeeting) {
+        super(message);
+        this.reason = reason;
+        this.participant = participant;
+        this.clashingMeeting = clashingMeeting;
+    }
+
+    /**
+     * Returns an exception for a meeting that has no participants, or has a participant with an empty name.
+     */
+    public static InvalidMeetingException emptyParticipant() {
+        return new InvalidMeetingException("Contact name after mp/ prefix cannot be left empty. "
+                + "Please retry the command without any empty contact name field(s) (e.g. mp/  )",
+                Reason.EMPTY_PARTICIPANT, null, null);
+    }
+
+    /**
+     * Returns an exception for a meeting with {@code participant}, who is not in the address book.
+     */
+    public static InvalidMeetingException unknownParticipant(String participant) {
+        requireNonNull(participant);
+        return new InvalidMeetingException("Contact " + participant + " is not in the address book.",
+                Reason.UNKNOWN_PARTICIPANT, participant, null);
+    }
+
+    /**
+     * Returns an exception for a meeting with {@code participant}, who already has {@code clashingMeeting} at the
+     * same time.
+     */
+    public static InvalidMeetingException clashingMeeting(String participant, Meeting clashingMeeting) {
+        requireNonNull(participant);
+        requireNonNull(clashingMeeting);
+        return new InvalidMeetingException("Meeting with " + participant + " already exists at "
+                + clashingMeeting.getDateTime() + ".", Reason.CLASHING_MEETING, participant, clashingMeeting);
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns the participant that made the meeting invalid, if any.
+     */
+    public Optional<String> getParticipant() {
+        return Optional.ofNullable(participant);
+    }
+
+    /**
+     * Returns the existing meeting that the invalid meeting clashes with, if any, unless this exception was
+     * deserialized.
+     */
+    public Optional<Meeting> getClashingMeeting() {
+        return Optional.ofNullable(clashingMeeting);
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.model.util.Interner;
+
 /**
  * Represents a Person's company in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCompany(String)}
@@ -17,6 +21,10 @@ public class Company {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Interner<Company> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,11 +38,20 @@ public class Company {
         value = company;
     }
 
+    /**
+     * Returns the {@code Company} shared by every person at {@code company}.
+     *
+     * @param company A valid company name.
+     */
+    public static Company of(String company) {
+        return INTERNER.intern(new Company(company));
+    }
+
     /**
      * Returns true if a given string is a valid posiiton.
      */
     public static boolean isValidCompany(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
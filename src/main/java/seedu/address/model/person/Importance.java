@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's Importance in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidImportance(String)}
@@ -18,6 +20,8 @@ public class Importance {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     private static final String[] VALID_IMPORTANCE_VALUES = {"low", "medium", "high"};
 
     public final String value;
@@ -37,7 +41,7 @@ public class Importance {
      * Returns true if a given string is a valid position.
      */
     public static boolean isValidImportance(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
             return false;
         }
 
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +22,8 @@ public class Name implements Comparable<Name> {
      */
     public static final String VALIDATION_REGEX = "\\S.*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
     /**
@@ -35,7 +41,7 @@ public class Name implements Comparable<Name> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -66,7 +72,8 @@ public class Name implements Comparable<Name> {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // names are compared ignoring case, so equal names must also hash the same regardless of case
+        return StringUtil.foldCase(fullName).hashCode();
     }
 
 }
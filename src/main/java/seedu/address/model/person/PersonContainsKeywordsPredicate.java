@@ -26,6 +26,14 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
         this.companyKeyword = companyKeyword;
     }
 
+    public String getNameKeyword() {
+        return nameKeyword;
+    }
+
+    public String getCompanyKeyword() {
+        return companyKeyword;
+    }
+
     @Override
     public boolean test(Person person) {
         boolean matchesName = !nameKeyword.isEmpty()
@@ -0,0 +1,141 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from the trigrams (substrings of three characters) of each person's lower-cased name and
+ * company to the persons containing them.
+ * A person whose name contains a keyword must contain every trigram of that keyword, so the persons of any one of
+ * the keyword's trigrams are a superset of the matches. The rarest trigram gives the fewest candidates to verify.
+ * The index must be updated before the persons it holds are replaced in a list that is being filtered with one of
+ * its predicates, as the list tests the new person straight away.
+ * Persons are held by instance, so that looking them up never needs to hash all of their fields.
+ */
+class PersonSearchIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> personsByNameGram = new HashMap<>();
+    private final Map<String, Set<Person>> personsByCompanyGram = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String gram : getGrams(getName(person))) {
+            personsByNameGram.computeIfAbsent(gram, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+        for (String gram : getGrams(getCompany(person))) {
+            personsByCompanyGram.computeIfAbsent(gram, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        removeFrom(personsByNameGram, getGrams(getName(person)), person);
+        removeFrom(personsByCompanyGram, getGrams(getCompany(person)), person);
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        personsByNameGram.clear();
+        personsByCompanyGram.clear();
+    }
+
+    /**
+     * Returns a predicate that is true for the persons that may have a name containing {@code nameKeyword} and a
+     * company containing {@code companyKeyword}, ignoring case, by looking them up in the rarest posting of the
+     * keywords' trigrams. The posting is looked up afresh on every test, so the predicate stays right as the index
+     * changes. Keywords shorter than {@link #GRAM_LENGTH} are not used to narrow down the candidates, so an empty
+     * {@code Optional} is returned if neither keyword is long enough.
+     */
+    public Optional<Predicate<Person>> getCandidatePredicate(String nameKeyword, String companyKeyword) {
+        requireNonNull(nameKeyword);
+        requireNonNull(companyKeyword);
+
+        // the smallest posting is already a superset of the matches, so it rejects the most persons
+        Map<String, Set<Person>> rarestPostings = null;
+        String rarestGram = null;
+        int rarestSize = Integer.MAX_VALUE;
+        for (String gram : getGrams(nameKeyword.trim().toLowerCase())) {
+            int size = getPostingSize(personsByNameGram, gram);
+            if (size < rarestSize) {
+                rarestPostings = personsByNameGram;
+                rarestGram = gram;
+                rarestSize = size;
+            }
+        }
+        for (String gram : getGrams(companyKeyword.trim().toLowerCase())) {
+            int size = getPostingSize(personsByCompanyGram, gram);
+            if (size < rarestSize) {
+                rarestPostings = personsByCompanyGram;
+                rarestGram = gram;
+                rarestSize = size;
+            }
+        }
+        if (rarestGram == null) {
+            return Optional.empty();
+        }
+
+        Map<String, Set<Person>> postings = rarestPostings;
+        String gram = rarestGram;
+        return Optional.of(person -> postings.getOrDefault(gram, Collections.emptySet()).contains(person));
+    }
+
+    private static int getPostingSize(Map<String, Set<Person>> postings, String gram) {
+        return postings.getOrDefault(gram, Collections.emptySet()).size();
+    }
+
+    private static void removeFrom(Map<String, Set<Person>> postings, Set<String> grams, Person person) {
+        for (String gram : grams) {
+            Set<Person> persons = postings.get(gram);
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code s}, which is empty if {@code s} is shorter than a trigram.
+     */
+    static Set<String> getGrams(String s) {
+        if (s.length() < GRAM_LENGTH) {
+            return Collections.emptySet();
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= s.length(); i++) {
+            grams.add(s.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Lower-cases the fields the same way as {@code StringUtil#containsIgnoreCase}, so that the index agrees with
+     * {@link PersonContainsKeywordsPredicate}.
+     */
+    private static String getName(Person person) {
+        return person.getName().fullName.toLowerCase();
+    }
+
+    private static String getCompany(Person person) {
+        return person.getCompany().toString().toLowerCase();
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * A dictionary of the distinct tags of a set of persons, together with a bitmap for each tag marking the persons
+ * that have it.
+ * Every tag name is given an integer id the first time it is seen, and every person is given a slot that it keeps
+ * until it is removed, so that removing a person does not shift the bits of the persons after it.
+ * Searching tags therefore only compares the search term against each distinct tag once, and combines the bitmaps
+ * of the tags that match.
+ * The index must be updated before the persons it holds are replaced in a list that is being filtered with one of
+ * its predicates, as the list tests the new person straight away.
+ */
+class PersonTagIndex {
+
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final List<String> lowerCaseTagNames = new ArrayList<>();
+    private final List<BitSet> personsByTag = new ArrayList<>();
+
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private int slotCount = 0;
+    private final BitSet freeSlots = new BitSet();
+    /** Counts the changes to the index, so that predicates know when to search it again. */
+    private long modificationCount = 0;
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int slot = freeSlots.nextSetBit(0);
+        if (slot == -1) {
+            slot = slotCount++;
+        } else {
+            freeSlots.clear(slot);
+        }
+        slots.put(person, slot);
+        modificationCount++;
+
+        for (Tag tag : person.getTags()) {
+            personsByTag.get(getTagId(tag)).set(slot);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person);
+        assert slot != null;
+
+        for (Tag tag : person.getTags()) {
+            personsByTag.get(tagIds.get(tag.tagName)).clear(slot);
+        }
+        freeSlots.set(slot);
+        modificationCount++;
+    }
+
+    /**
+     * Removes every person and tag from the index.
+     */
+    public void clear() {
+        tagIds.clear();
+        lowerCaseTagNames.clear();
+        personsByTag.clear();
+        slots.clear();
+        slotCount = 0;
+        freeSlots.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in the index with a tag whose name contains
+     * {@code searchTerm}, ignoring case. The distinct tags are searched, and the bitmaps of those that match
+     * combined, once for every change to the index, however many persons are tested in between, so that testing a
+     * person only takes a lookup of its slot.
+     */
+    public Predicate<Person> getTagSearchPredicate(String searchTerm) {
+        requireNonNull(searchTerm);
+        return new TagSearch(searchTerm.trim().toLowerCase());
+    }
+
+    /**
+     * Returns the slots of the persons with a tag whose name contains {@code lowerCaseSearchTerm}.
+     */
+    private BitSet getSlotsWithTagContaining(String lowerCaseSearchTerm) {
+        BitSet matchingSlots = new BitSet(slotCount);
+        if (lowerCaseSearchTerm.isEmpty()) {
+            return matchingSlots;
+        }
+        for (int tagId = 0; tagId < lowerCaseTagNames.size(); tagId++) {
+            if (lowerCaseTagNames.get(tagId).contains(lowerCaseSearchTerm)) {
+                matchingSlots.or(personsByTag.get(tagId));
+            }
+        }
+        return matchingSlots;
+    }
+
+    /**
+     * Returns the id of {@code tag}, adding it to the dictionary if it has not been seen before.
+     */
+    private int getTagId(Tag tag) {
+        return tagIds.computeIfAbsent(tag.tagName, tagName -> {
+            // tag names are lower-cased the same way as StringUtil#containsIgnoreCase, to agree with the predicate
+            lowerCaseTagNames.add(tagName.toLowerCase());
+            personsByTag.add(new BitSet());
+            return lowerCaseTagNames.size() - 1;
+        });
+    }
+
+    /**
+     * Matches the persons with a tag containing a search term, searching the index again only after it changes.
+     */
+    private class TagSearch implements Predicate<Person> {
+        private final String lowerCaseSearchTerm;
+        private long searchedModificationCount = -1;
+        private BitSet matchingSlots;
+
+        TagSearch(String lowerCaseSearchTerm) {
+            this.lowerCaseSearchTerm = lowerCaseSearchTerm;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (searchedModificationCount != modificationCount) {
+                matchingSlots = getSlotsWithTagContaining(lowerCaseSearchTerm);
+                searchedModificationCount = modificationCount;
+            }
+            Integer slot = slots.get(person);
+            return slot != null && matchingSlots.get(slot);
+        }
+    }
+}
@@ -23,6 +23,10 @@ public class PersonTagsContainsSearchPredicate implements Predicate<Person> {
         this.searchTerm = searchTerm;
     }
 
+    public String getSearchTerm() {
+        return searchTerm;
+    }
+
     @Override
     public boolean test(Person person) {
 
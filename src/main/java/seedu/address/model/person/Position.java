@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.model.util.Interner;
+
 /**
  * Represents a Person's position in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPosition(String)}
@@ -17,6 +21,10 @@ public class Position {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Interner<Position> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,11 +38,20 @@ public class Position {
         value = position;
     }
 
+    /**
+     * Returns the {@code Position} shared by every person holding {@code position}.
+     *
+     * @param position A valid position.
+     */
+    public static Position of(String position) {
+        return INTERNER.intern(new Position(position));
+    }
+
     /**
      * Returns true if a given string is a valid position.
      */
     public static boolean isValidPosition(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,11 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,6 +26,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the list, every person is indexed by its identity key (see {@link #getIdentityKey(Person)}), so that
+ * checking whether a person with the same identity exists does not require scanning the list. The number of persons
+ * with each exact name is tracked as well, so that meeting participants can be resolved without scanning the list.
+ * A {@link PersonSearchIndex} over names and companies and a {@link PersonTagIndex} over tags are built on the
+ * first search and then kept up to date, ahead of every change to the list, so that the predicates searching
+ * them can filter views of the list without testing every person in full.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +40,52 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> identityIndex = new HashMap<>();
+    private final Map<String, Integer> nameCounts = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private final PersonTagIndex tagIndex = new PersonTagIndex();
+    private boolean areSearchIndexesBuilt = false;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(getIdentityKey(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a person whose full name is exactly {@code fullName}.
+     */
+    public boolean containsName(String fullName) {
+        requireNonNull(fullName);
+        return nameCounts.containsKey(fullName);
+    }
+
+    /**
+     * Returns a predicate that matches the same persons in the list as {@code predicate}, but only tests the
+     * candidates suggested by the search index, unless the keywords are too short to use it.
+     * The index is updated before the list notifies its listeners of a change, so a view of the list can keep
+     * filtering with the predicate as persons are added and edited.
+     */
+    public Predicate<Person> getIndexedPredicate(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        buildSearchIndexes();
+        return searchIndex.getCandidatePredicate(predicate.getNameKeyword(), predicate.getCompanyKeyword())
+                .map(isCandidate -> isCandidate.and(predicate))
+                .orElse(predicate);
+    }
+
+    /**
+     * Returns a predicate that matches the same persons in the list as {@code predicate}, but only compares the
+     * distinct tags in the list against the search term, once for every change to the list.
+     * As with {@link #getIndexedPredicate(PersonContainsKeywordsPredicate)}, a view of the list can keep filtering
+     * with the predicate as persons are added and edited.
+     */
+    public Predicate<Person> getIndexedPredicate(PersonTagsContainsSearchPredicate predicate) {
+        requireNonNull(predicate);
+        buildSearchIndexes();
+        return tagIndex.getTagSearchPredicate(predicate.getSearchTerm());
     }
 
     /**
@@ -42,9 +94,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        String key = getIdentityKey(toAdd);
+        if (identityIndex.containsKey(key)) {
             throw new DuplicatePersonException();
         }
+        identityIndex.put(key, toAdd);
+        countName(toAdd, 1);
+        addToSearchIndexes(toAdd);
         internalList.add(toAdd);
     }
 
@@ -65,6 +121,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        identityIndex.remove(getIdentityKey(target));
+        identityIndex.put(getIdentityKey(editedPerson), editedPerson);
+        countName(target, -1);
+        countName(editedPerson, 1);
+        removeFromSearchIndexes(internalList.get(index));
+        addToSearchIndexes(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +136,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        removeFromSearchIndexes(internalList.get(index));
+        internalList.remove(index);
+        identityIndex.remove(getIdentityKey(toRemove));
+        countName(toRemove, -1);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        nameCounts.clear();
+        nameCounts.putAll(replacement.nameCounts);
+        rebuildSearchIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +162,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<DuplicatePair> duplicates = new ArrayList<>();
+        Map<String, Person> newIdentityIndex = buildIdentityIndex(persons, duplicates);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
+        identityIndex.clear();
+        identityIndex.putAll(newIdentityIndex);
+        nameCounts.clear();
+        persons.forEach(person -> countName(person, 1));
+        rebuildSearchIndexes(persons);
         internalList.setAll(persons);
     }
 
@@ -134,17 +213,127 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void buildSearchIndexes() {
+        if (!areSearchIndexesBuilt) {
+            areSearchIndexesBuilt = true;
+            internalList.forEach(this::addToSearchIndexes);
+        }
+    }
+
+    private void addToSearchIndexes(Person person) {
+        if (areSearchIndexesBuilt) {
+            searchIndex.add(person);
+            tagIndex.add(person);
+        }
+    }
+
+    private void removeFromSearchIndexes(Person person) {
+        if (areSearchIndexesBuilt) {
+            searchIndex.remove(person);
+            tagIndex.remove(person);
+        }
+    }
+
+    /**
+     * Replaces the contents of the search indexes with {@code persons}, before they replace the whole list.
+     * Indexes that have not been built yet are left to the first search, so that loading and copying address books
+     * that are never searched stays cheap.
+     */
+    private void rebuildSearchIndexes(List<Person> persons) {
+        searchIndex.clear();
+        tagIndex.clear();
+        persons.forEach(this::addToSearchIndexes);
+    }
+
+    private void countName(Person person, int delta) {
+        // a count that drops to zero is removed, so that only names still in the list are present
+        nameCounts.merge(person.getName().fullName, delta, (count, change) ->
+                count + change == 0 ? null : count + change);
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns a key that is equal for two persons exactly when they are the same person, as defined by
+     * {@link Person#isSamePerson(Person)}: the case-folded name together with the phone number.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static String getIdentityKey(Person person) {
+        // phone numbers only contain digits, so the separator cannot be confused with part of the phone
+        return StringUtil.foldCase(person.getName().fullName) + '|' + person.getPhone().value;
+    }
+
+    /**
+     * Returns every person in {@code persons} that is the same person as someone earlier in the list, each paired
+     * with the first occurrence of that person, in the order the duplicates appear.
+     * Runs in a single pass over {@code persons}.
+     */
+    public static List<DuplicatePair> findDuplicates(List<Person> persons) {
+        requireAllNonNull(persons);
+        List<DuplicatePair> duplicates = new ArrayList<>();
+        buildIdentityIndex(persons, duplicates);
+        return duplicates;
+    }
+
+    /**
+     * Returns an identity index of the first occurrence of each person in {@code persons}, adding every later
+     * occurrence of the same person to {@code duplicates}.
+     */
+    private static Map<String, Person> buildIdentityIndex(List<Person> persons, List<DuplicatePair> duplicates) {
+        Map<String, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            Person first = index.putIfAbsent(getIdentityKey(person), person);
+            if (first != null) {
+                duplicates.add(new DuplicatePair(first, person));
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * A person that is the same person as one that appears before it.
+     */
+    public static class DuplicatePair {
+        private final Person first;
+        private final Person duplicate;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public DuplicatePair(Person first, Person duplicate) {
+            requireAllNonNull(first, duplicate);
+            this.first = first;
+            this.duplicate = duplicate;
+        }
+
+        public Person getFirst() {
+            return first;
+        }
+
+        public Person getDuplicate() {
+            return duplicate;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof DuplicatePair)) {
+                return false;
+            }
+
+            DuplicatePair otherPair = (DuplicatePair) other;
+            return first.equals(otherPair.first) && duplicate.equals(otherPair.duplicate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(first, duplicate);
+        }
+
+        @Override
+        public String toString() {
+            return duplicate.getName() + " (" + duplicate.getPhone() + ") duplicates " + first.getName();
+        }
     }
 }
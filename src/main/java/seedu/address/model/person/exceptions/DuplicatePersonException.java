@@ -1,11 +1,37 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.UniquePersonList.DuplicatePair;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<DuplicatePair> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception that reports every one of the given {@code duplicates}.
+     */
+    public DuplicatePersonException(List<DuplicatePair> duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates.stream()
+                .map(DuplicatePair::toString)
+                .collect(Collectors.joining("; ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the duplicate persons found, if the operation reported them.
+     */
+    public List<DuplicatePair> getDuplicates() {
+        return duplicates;
     }
 }
@@ -3,6 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.model.util.Interner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +16,10 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tag names should be alphanumeric, and should not be blank";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Interner<Tag> INTERNER = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +33,21 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the {@code Tag} shared by every person tagged with {@code tagName}.
+     * Equal tags are usually repeated across many persons, so sharing them saves memory.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return INTERNER.intern(new Tag(tagName));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
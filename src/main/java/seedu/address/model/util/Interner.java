@@ -0,0 +1,118 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizes equal immutable values, so that they can share one instance.
+ * Only weak references to the canonical instances are held, so a value that is no longer used anywhere else can
+ * still be garbage collected. Safe for use by multiple threads, which intern values without blocking each other,
+ * as values are converted in parallel when loading the data file.
+ *
+ * @param <T> an immutable type whose {@code equals} and {@code hashCode} depend only on its value.
+ */
+public class Interner<T> {
+
+    private final ConcurrentMap<Object, WeakKey<T>> canonicalValues = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collectedValues = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} the canonical instance if there
+     * is none yet.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        removeCollectedValues();
+        // most values have been interned before, which is found without creating a reference
+        WeakKey<T> existingKey = canonicalValues.get(new LookupKey(value));
+        T existingValue = existingKey == null ? null : existingKey.get();
+        if (existingValue != null) {
+            return existingValue;
+        }
+
+        WeakKey<T> key = new WeakKey<>(value, collectedValues);
+        while (true) {
+            WeakKey<T> canonicalKey = canonicalValues.putIfAbsent(key, key);
+            if (canonicalKey == null) {
+                return value;
+            }
+            T canonicalValue = canonicalKey.get();
+            if (canonicalValue != null) {
+                return canonicalValue;
+            }
+            // collected since it was found, so it no longer equals anything and can be replaced
+            canonicalValues.remove(canonicalKey, canonicalKey);
+        }
+    }
+
+    /**
+     * Returns the number of canonical instances that may still be in use.
+     */
+    public int size() {
+        removeCollectedValues();
+        return canonicalValues.size();
+    }
+
+    private void removeCollectedValues() {
+        Reference<? extends T> reference;
+        while ((reference = collectedValues.poll()) != null) {
+            canonicalValues.remove(reference);
+        }
+    }
+
+    /**
+     * A value to look up, equal to the {@link WeakKey} of an equal value.
+     */
+    private static class LookupKey {
+        private final Object value;
+
+        LookupKey(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof WeakKey && value.equals(((WeakKey<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+
+    /**
+     * A weak reference to a value, equal to any other such reference to an equal value. Once the value is
+     * collected, the reference is only equal to itself, so that it can still be removed.
+     */
+    private static class WeakKey<T> extends WeakReference<T> {
+        private final int hashCode;
+
+        WeakKey(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            hashCode = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof WeakKey)) {
+                return false;
+            }
+            Object value = get();
+            return value != null && value.equals(((WeakKey<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
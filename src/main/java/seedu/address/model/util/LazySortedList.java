@@ -0,0 +1,127 @@
+package seedu.address.model.util;
+
+import java.util.Comparator;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of a source list sorted by a comparator that can be changed, like {@link SortedList}.
+ * Until a comparator is set, the view is the source list itself and passes every change on as it is, whereas a
+ * {@code SortedList} without a comparator still updates its mapping of every element on every change, which makes
+ * adding many elements one at a time take quadratic time. The {@code SortedList} doing the sorting is only created
+ * when a comparator is set, and dropped again when it is cleared.
+ */
+public class LazySortedList<E> extends TransformationList<E, E> {
+
+    private final ListChangeListener<E> sortedListener = this::forward;
+    private SortedList<E> sorted;
+
+    /**
+     * Creates an unsorted view of {@code source}.
+     */
+    public LazySortedList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    /**
+     * Sorts the view by {@code comparator}, or restores the order of the source list if it is null.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        if (sorted != null) {
+            if (comparator != null) {
+                sorted.setComparator(comparator);
+                return;
+            }
+            // the element at each view index moves back to its index in the source list
+            int[] permutation = new int[size()];
+            for (int i = 0; i < permutation.length; i++) {
+                permutation[i] = sorted.getSourceIndex(i);
+            }
+            sorted.removeListener(sortedListener);
+            sorted = null;
+            firePermutation(permutation);
+        } else if (comparator != null) {
+            sorted = new SortedList<>(getSource(), comparator);
+            sorted.addListener(sortedListener);
+            int[] permutation = new int[size()];
+            for (int i = 0; i < permutation.length; i++) {
+                permutation[i] = sorted.getViewIndex(i);
+            }
+            firePermutation(permutation);
+        }
+    }
+
+    public Comparator<? super E> getComparator() {
+        return sorted == null ? null : sorted.getComparator();
+    }
+
+    private void firePermutation(int[] permutation) {
+        if (permutation.length == 0) {
+            return;
+        }
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        // once sorted, changes reach this view through the sorted list instead
+        if (sorted == null) {
+            forward(change);
+        }
+    }
+
+    /**
+     * Fires {@code change}, which was made to a list with the same elements at the same indexes as this view.
+     */
+    private void forward(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return sorted == null ? getSource().get(index) : sorted.get(index);
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return sorted == null ? index : sorted.getSourceIndex(index);
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return sorted == null ? index : sorted.getViewIndex(index);
+    }
+}
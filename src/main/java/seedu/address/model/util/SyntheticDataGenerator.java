@@ -0,0 +1,280 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.MeetingTime;
+import seedu.address.model.meeting.Notes;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Importance;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Position;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books of any size, in the style of {@link SampleDataUtil}, for reproducing performance problems.
+ * Every person and meeting is generated from the seed and its index alone, so the same seed always gives the same
+ * data, and a single record can be generated without generating the ones before it. This lets
+ * {@link #getPersons()} and {@link #getMeetings()} stream millions of records without holding them in memory.
+ *
+ * Persons have unique names, so that meetings can refer to them, and unique phone numbers. Meetings are held on
+ * weekdays from 9am, one per hour and for at most an hour each, so no two meetings overlap.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Amelia", "Benjamin", "Chloe", "Daniel",
+        "Elena", "Farhan", "Grace", "Hui Min", "Isaac", "Jia Hui", "Kumar", "Li Ting", "Marcus", "Nurul",
+        "Oliver", "Priya", "Qi Xuan", "Rachel", "Siddharth", "Tiffany", "Umar", "Valerie", "Wei Jie", "Xavier",
+        "Yi Ling", "Zachary", "Aisha", "Bryan", "Cheryl", "Dinesh", "Esther", "Faith", "Gabriel", "Hannah"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Lee", "Ng",
+        "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Low",
+        "Sim", "Chong", "Kumar", "Rahman", "Pillai", "Singh", "Ho", "Toh", "Quek", "Seah",
+        "Foo", "Loh", "Kwek", "Hassan", "Menon", "Fernandez", "Smith", "Nguyen", "Kim", "Sato"
+    };
+    private static final String[] COMPANY_NAMES = {
+        "Google", "Microsoft", "Facebook", "Apple", "Amazon", "Tesla", "Shopee", "Grab", "Sea", "DBS",
+        "OCBC", "GovTech", "ByteDance", "Stripe", "Visa", "Carousell", "Razer", "Lazada", "Ninja Van", "Singtel"
+    };
+    private static final String[] POSITIONS = {
+        "Software Engineer", "Product Manager", "UX Designer", "Data Analyst", "Marketing Specialist",
+        "Mechanical Engineer", "Recruiter", "Data Scientist", "DevOps Engineer", "Quant Analyst"
+    };
+    private static final String[] TAGS = {
+        "friends", "colleagues", "neighbours", "family", "classmates", "mentor", "referral", "alumni",
+        "recruiter", "hackathon", "career", "fair", "internship", "fulltime", "interviewed", "offer",
+        "rejected", "followup", "coffee", "linkedin"
+    };
+    private static final String[] IMPORTANCE_VALUES = {"Low", "Medium", "High"};
+    private static final String[] NOTES = {
+        "Coffee chat", "Technical interview", "Behavioural interview", "Offer discussion", "Resume review",
+        "Project sync", "Networking session", ""
+    };
+    private static final String[] DURATIONS = {"30", "45", "60"};
+
+    private static final LocalDateTime FIRST_MEETING_TIME = LocalDateTime.of(2025, 1, 6, 9, 0);
+    private static final int MEETINGS_PER_DAY = 8;
+    private static final DateTimeFormatter MEETING_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /** Distinguishes the random numbers used for persons from those used for meetings with the same index. */
+    private static final long PERSON_STREAM = 1;
+    private static final long MEETING_STREAM = 2;
+
+    private final long seed;
+    private int personCount = 1000;
+    private int tagsPerPerson = 2;
+    private int companyCount = COMPANY_NAMES.length;
+    private int meetingCount = 100;
+    private int participantsPerMeeting = 2;
+
+    /**
+     * Creates a {@code SyntheticDataGenerator} of 1000 persons and 100 meetings, generated from {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of persons to generate.
+     */
+    public SyntheticDataGenerator withPersons(int personCount) {
+        checkArgument(personCount >= 0, "Number of persons must not be negative: " + personCount);
+        this.personCount = personCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct tags that each person has, which is at most 20.
+     */
+    public SyntheticDataGenerator withTagsPerPerson(int tagsPerPerson) {
+        checkArgument(tagsPerPerson >= 0 && tagsPerPerson <= TAGS.length,
+                "Number of tags per person must be between 0 and " + TAGS.length + ": " + tagsPerPerson);
+        this.tagsPerPerson = tagsPerPerson;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct companies that persons work at.
+     */
+    public SyntheticDataGenerator withCompanies(int companyCount) {
+        checkArgument(companyCount > 0, "Number of companies must be positive: " + companyCount);
+        this.companyCount = companyCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of meetings to generate.
+     */
+    public SyntheticDataGenerator withMeetings(int meetingCount) {
+        checkArgument(meetingCount >= 0, "Number of meetings must not be negative: " + meetingCount);
+        this.meetingCount = meetingCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct persons taking part in each meeting.
+     */
+    public SyntheticDataGenerator withParticipantsPerMeeting(int participantsPerMeeting) {
+        checkArgument(participantsPerMeeting > 0,
+                "Number of participants per meeting must be positive: " + participantsPerMeeting);
+        this.participantsPerMeeting = participantsPerMeeting;
+        return this;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getMeetingCount() {
+        return meetingCount;
+    }
+
+    /**
+     * Returns the person with the given {@code index}, which must be less than the number of persons.
+     */
+    public Person getPerson(int index) {
+        checkIndex(index, personCount);
+        SplittableRandom random = getRandom(PERSON_STREAM, index);
+
+        String name = getPersonName(index);
+        String emailName = name.toLowerCase().replaceAll("[^a-z0-9]+", ".");
+        int companyId = random.nextInt(companyCount);
+        String company = COMPANY_NAMES[companyId % COMPANY_NAMES.length]
+                + (companyId < COMPANY_NAMES.length ? "" : " " + (companyId / COMPANY_NAMES.length + 1));
+
+        Set<Tag> tags = new HashSet<>();
+        while (tags.size() < tagsPerPerson) {
+            tags.add(Tag.of(TAGS[random.nextInt(TAGS.length)]));
+        }
+
+        return new Person(new Name(name), new Email(emailName + "@example.com"),
+                new Phone(String.valueOf(80_000_000L + index)), Company.of(company),
+                Position.of(POSITIONS[random.nextInt(POSITIONS.length)]), tags,
+                new Importance(IMPORTANCE_VALUES[random.nextInt(IMPORTANCE_VALUES.length)]));
+    }
+
+    /**
+     * Returns the meeting with the given {@code index}, which must be less than the number of meetings.
+     * There must be at least as many persons as participants per meeting.
+     */
+    public Meeting getMeeting(int index) {
+        checkIndex(index, meetingCount);
+        checkArgument(participantsPerMeeting <= personCount,
+                "Cannot have " + participantsPerMeeting + " participants with only " + personCount + " persons");
+        SplittableRandom random = getRandom(MEETING_STREAM, index);
+
+        LocalDateTime time = FIRST_MEETING_TIME.plusDays(getWeekdayOffset(index / MEETINGS_PER_DAY))
+                .plusHours(index % MEETINGS_PER_DAY);
+        Set<String> participants = new HashSet<>();
+        while (participants.size() < participantsPerMeeting) {
+            participants.add(getPersonName(random.nextInt(personCount)));
+        }
+
+        return new Meeting(new MeetingTime(time.format(MEETING_TIME_FORMATTER)), participants,
+                new Notes(NOTES[random.nextInt(NOTES.length)]),
+                new MeetingDuration(DURATIONS[random.nextInt(DURATIONS.length)]));
+    }
+
+    /**
+     * Returns the persons, which are generated as they are iterated over.
+     */
+    public Iterable<Person> getPersons() {
+        return () -> new GeneratingIterator<>(personCount, this::getPerson);
+    }
+
+    /**
+     * Returns the meetings, which are generated as they are iterated over.
+     */
+    public Iterable<Meeting> getMeetings() {
+        return () -> new GeneratingIterator<>(meetingCount, this::getMeeting);
+    }
+
+    /**
+     * Returns a new address book containing all the persons and meetings.
+     */
+    public AddressBook generateAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : getPersons()) {
+            addressBook.addPerson(person);
+        }
+        for (Meeting meeting : getMeetings()) {
+            addressBook.addMeeting(meeting);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the name of the person with the given {@code index}. Names are unique, as every combination of first
+     * and last name is used once before the combinations are reused with a number after them.
+     */
+    private static String getPersonName(int index) {
+        int combinationCount = FIRST_NAMES.length * LAST_NAMES.length;
+        int combination = index % combinationCount;
+        int round = index / combinationCount;
+        return FIRST_NAMES[combination % FIRST_NAMES.length] + " " + LAST_NAMES[combination / FIRST_NAMES.length]
+                + (round == 0 ? "" : " " + (round + 1));
+    }
+
+    /**
+     * Returns the number of days from the first meeting day to the {@code weekday}-th weekday after it.
+     */
+    private static long getWeekdayOffset(int weekday) {
+        return weekday / 5 * 7L + weekday % 5;
+    }
+
+    private SplittableRandom getRandom(long stream, int index) {
+        // multiplying by an odd constant spreads neighbouring indexes and seeds across the whole range of longs
+        return new SplittableRandom((seed * 0x9E3779B97F4A7C15L + stream) * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private static void checkIndex(int index, int count) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + count + " records");
+        }
+    }
+
+    /**
+     * Iterates over the records with indexes from 0 to {@code count}, generating each one when it is reached.
+     */
+    private static class GeneratingIterator<T> implements Iterator<T> {
+        private final int count;
+        private final IntFunction<T> generator;
+        private int nextIndex = 0;
+
+        GeneratingIterator(int count, IntFunction<T> generator) {
+            this.count = count;
+            this.generator = generator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < count;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return generator.apply(nextIndex++);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+
+/**
+ * A point-in-time copy of a {@link ReadOnlyAddressBook} that is safe to hand over to another thread.
+ * As {@code Person} and {@code Meeting} are immutable, copying the lists is enough to freeze the data.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Meeting> meetings;
+    private final long version;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getPersonList()));
+        meetings = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getMeetingList()));
+        version = source.getVersion();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Meeting> getMeetingList() {
+        return meetings;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+}
@@ -0,0 +1,319 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.MeetingTime;
+import seedu.address.model.meeting.Notes;
+import seedu.address.model.person.Company;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Importance;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Position;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads an address book from a binary data file written by {@link BinaryAddressBookWriter}.
+ * Values that many persons share are converted to the model type once, and reused for every person that has them.
+ */
+public class BinaryAddressBookReader {
+
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int STRING_BYTES_INITIAL_SIZE = 256;
+
+    private final ByteBuffer buffer;
+    private final List<String> refValues = new ArrayList<>();
+    private final Map<String, Company> companies = new HashMap<>();
+    private final Map<String, Position> positions = new HashMap<>();
+    private final Map<String, Importance> importances = new HashMap<>();
+    private final Map<String, Tag> tags = new HashMap<>();
+    private byte[] stringBytes = new byte[STRING_BYTES_INITIAL_SIZE];
+
+    private BinaryAddressBookReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the address book stored in {@code filePath}, decoding it straight from a memory mapping of the file.
+     *
+     * @throws IOException if the file cannot be read or is not a valid binary data file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, true);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}.
+     *
+     * @param isMemoryMapped whether to decode the file from a memory mapping, rather than copying it onto the heap.
+     *     The mapping stays open until it is garbage collected, which on some platforms keeps the file from being
+     *     replaced or deleted until then.
+     */
+    public static AddressBook read(Path filePath, boolean isMemoryMapped) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        return read(isMemoryMapped ? map(filePath) : ByteBuffer.wrap(Files.readAllBytes(filePath)));
+    }
+
+    /**
+     * Returns the address book stored in the remaining bytes of {@code data}, which are left unchanged.
+     *
+     * @throws IOException if the bytes are not a valid binary data file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(ByteBuffer data) throws IOException, IllegalValueException {
+        requireNonNull(data);
+
+        ByteBuffer buffer = data.slice();
+        if (buffer.remaining() < BinaryAddressBookStorage.MAGIC.length + CHECKSUM_SIZE) {
+            throw new IOException("Data file is too short to be a binary data file");
+        }
+        checkMagic(buffer);
+
+        int checksumPosition = buffer.limit() - CHECKSUM_SIZE;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().position(0).limit(checksumPosition));
+        if ((int) checksum.getValue() != buffer.getInt(checksumPosition)) {
+            throw new IOException("Data file is corrupted, as its checksum does not match");
+        }
+        buffer.limit(checksumPosition);
+
+        return decode(buffer, BinaryAddressBookReader::readAddressBook);
+    }
+
+    /**
+     * Returns an address book of just the first {@code count} persons stored in {@code filePath}, without any
+     * meetings. Only those persons are decoded, so this is much faster than {@link #read(Path, boolean)} for large
+     * files, but the rest of the file, including its checksum, is not checked.
+     *
+     * @param isMemoryMapped as in {@link #read(Path, boolean)}.
+     * @throws IOException if the file cannot be read or does not start like a valid binary data file.
+     * @throws IllegalValueException if there were any data constraints violated by those persons.
+     */
+    public static AddressBook readFirstPersons(Path filePath, int count, boolean isMemoryMapped)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        ByteBuffer buffer = isMemoryMapped ? map(filePath) : ByteBuffer.wrap(Files.readAllBytes(filePath));
+        checkMagic(buffer);
+        return decode(buffer, reader -> reader.readFirstPersons(count));
+    }
+
+    private static ByteBuffer map(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Data file is too large to be read: " + size + " bytes");
+            }
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private static void checkMagic(ByteBuffer buffer) throws IOException {
+        byte[] magic = new byte[BinaryAddressBookStorage.MAGIC.length];
+        if (buffer.remaining() < magic.length) {
+            throw new IOException("Data file is too short to be a binary data file");
+        }
+        buffer.get(magic);
+        if (!Arrays.equals(magic, BinaryAddressBookStorage.MAGIC)) {
+            throw new IOException("Data file is not a binary data file");
+        }
+    }
+
+    /**
+     * Returns what {@code decoder} decodes from {@code buffer}, reporting data that ends too soon as an
+     * {@code IOException} and invalid values as an {@code IllegalValueException}.
+     */
+    private static AddressBook decode(ByteBuffer buffer, Decoder decoder) throws IOException, IllegalValueException {
+        try {
+            return decoder.decode(new BinaryAddressBookReader(buffer));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Data file ends in the middle of a record", e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private AddressBook readAddressBook() throws IOException, IllegalValueException {
+        readVersion();
+        AddressBook addressBook = new AddressBook();
+        String[] personNames = new String[readCount()];
+        List<Person> persons = new ArrayList<>(personNames.length);
+        for (int i = 0; i < personNames.length; i++) {
+            Person person = readPerson();
+            persons.add(person);
+            personNames[i] = person.getName().fullName;
+        }
+        // adding the persons all at once indexes them in one pass, rather than updating the indexes for each
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+
+        int meetingCount = readCount();
+        List<Meeting> meetings = new ArrayList<>(meetingCount);
+        for (int i = 0; i < meetingCount; i++) {
+            meetings.add(readMeeting(personNames));
+        }
+        JsonSerializableAddressBook.setMeetings(addressBook, meetings);
+
+        if (buffer.hasRemaining()) {
+            throw new IOException("Data file has unexpected bytes after its last record");
+        }
+        return addressBook;
+    }
+
+    private AddressBook readFirstPersons(int count) throws IOException, IllegalValueException {
+        readVersion();
+        // the persons are only counted, not bounded by the bytes left, as the buffer may hold just the start of a file
+        int personCount = Math.min(readInt(), count);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    private void readVersion() throws IOException {
+        int version = readInt();
+        if (version != BinaryAddressBookStorage.FORMAT_VERSION) {
+            throw new IOException("Data file is in an unsupported format version " + version);
+        }
+    }
+
+    private Person readPerson() throws IOException {
+        Name name = new Name(readString());
+        Phone phone = new Phone(readString());
+        Email email = new Email(readString());
+        Company company = companies.computeIfAbsent(readRef(), Company::of);
+        Position position = positions.computeIfAbsent(readRef(), Position::of);
+        Importance importance = importances.computeIfAbsent(readRef(), Importance::new);
+        int tagCount = readCount();
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags.computeIfAbsent(readRef(), Tag::of));
+        }
+        return new Person(name, email, phone, company, position, personTags, importance);
+    }
+
+    private Meeting readMeeting(String[] personNames) throws IOException {
+        long zigzagStart = readVarLong();
+        long start = (zigzagStart >>> 1) ^ -(zigzagStart & 1);
+        MeetingTime meetingTime = new MeetingTime(LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC));
+
+        int participantCount = readCount();
+        Set<String> participants = new HashSet<>();
+        for (int i = 0; i < participantCount; i++) {
+            int personId = readInt();
+            if (personId >= personNames.length) {
+                throw new IOException("Meeting participant " + personId + " is not in the data file");
+            }
+            participants.add(personNames[personId]);
+        }
+
+        Notes notes = new Notes(readString());
+        int minutes = readInt();
+        MeetingDuration duration = minutes == 0 ? null : new MeetingDuration(String.valueOf(minutes));
+        return new Meeting(meetingTime, participants, notes, duration);
+    }
+
+    private String readRef() throws IOException {
+        int id = readInt();
+        if (id == 0) {
+            String value = readString();
+            refValues.add(value);
+            return value;
+        }
+        if (id > refValues.size()) {
+            throw new IOException("Data file refers to value " + id + " before it is written");
+        }
+        return refValues.get(id - 1);
+    }
+
+    private String readString() throws IOException {
+        int length = readCount();
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            // strings are copied out of buffers without an array, such as memory mappings, through one reused array
+            if (stringBytes.length < length) {
+                stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+            }
+            buffer.get(stringBytes, 0, length);
+            value = new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a varint that counts or indexes something in the file, so it cannot exceed the bytes left.
+     */
+    private int readCount() throws IOException {
+        long count = readVarLong();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException("Data file ends in the middle of a record");
+        }
+        return (int) count;
+    }
+
+    private int readInt() throws IOException {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Data file has a malformed number");
+        }
+        return (int) value;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Data file has a malformed number");
+    }
+
+    /**
+     * Decodes an address book with a reader.
+     */
+    @FunctionalInterface
+    private interface Decoder {
+        AddressBook decode(BinaryAddressBookReader reader) throws IOException, IllegalValueException;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * The file is several times smaller than the equivalent JSON file and much faster to read, but cannot be edited
+ * by hand.
+ *
+ * @see BinaryAddressBookWriter for the format of the file.
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    /** The bytes that every binary data file starts with. */
+    static final byte[] MAGIC = {'I', 'H', 'A', 'B'};
+    /** The version of the format written, which is increased whenever the format changes. */
+    static final int FORMAT_VERSION = 1;
+
+    /**
+     * Whether data files are memory mapped when read, unless stated otherwise.
+     * Windows cannot replace a file while it is mapped, and a mapping is only closed when it is garbage collected,
+     * so there the file is read onto the heap instead, lest the first save after loading fail.
+     */
+    public static final boolean IS_MEMORY_MAPPED_BY_DEFAULT =
+            !System.getProperty("os.name", "").toLowerCase().startsWith("windows");
+
+    private final boolean isMemoryMapped;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, DurabilityPolicy.PERIODIC, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that saves to {@code filePath}, forcing saves onto the disk as
+     * {@code durabilityPolicy} says.
+     *
+     * @param syncInterval the least time between forced saves under {@link DurabilityPolicy#PERIODIC}.
+     */
+    public BinaryAddressBookStorage(Path filePath, DurabilityPolicy durabilityPolicy, Duration syncInterval) {
+        this(filePath, durabilityPolicy, syncInterval, IS_MEMORY_MAPPED_BY_DEFAULT);
+    }
+
+    /**
+     * Similar to {@link #BinaryAddressBookStorage(Path, DurabilityPolicy, Duration)}.
+     *
+     * @param isMemoryMapped whether to decode data files straight from a memory mapping when reading them.
+     */
+    public BinaryAddressBookStorage(Path filePath, DurabilityPolicy durabilityPolicy, Duration syncInterval,
+            boolean isMemoryMapped) {
+        super(filePath, durabilityPolicy, syncInterval);
+        this.isMemoryMapped = isMemoryMapped;
+    }
+
+    /**
+     * Returns true if {@code filePath} exists and starts like a binary data file, rather than a JSON one.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(MAGIC, in.readNBytes(MAGIC.length));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * A JSON data file is read as such, e.g. after the storage format was switched without converting the file,
+     * so that its data is kept, and converted by the next save, instead of being taken for an empty address book.
+     */
+    @Override
+    protected ReadOnlyAddressBook read(Path filePath) throws IOException, IllegalValueException {
+        if (!isBinaryFile(filePath)) {
+            return JsonAddressBookReader.read(filePath);
+        }
+        return BinaryAddressBookReader.read(filePath, isMemoryMapped);
+    }
+
+    @Override
+    protected ReadOnlyAddressBook readFirstPersons(Path filePath, int count) throws IOException, IllegalValueException {
+        if (!isBinaryFile(filePath)) {
+            return JsonAddressBookReader.readFirstPersons(filePath, count);
+        }
+        return BinaryAddressBookReader.readFirstPersons(filePath, count, isMemoryMapped);
+    }
+
+    @Override
+    protected void write(Path filePath, ReadOnlyAddressBook addressBook, boolean isSynced) throws IOException {
+        BinaryAddressBookWriter.write(filePath, addressBook, isSynced);
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book to a binary data file, which {@link BinaryAddressBookReader} reads back.
+ *
+ * The file is laid out as follows, where a varint is an unsigned integer written 7 bits at a time, least
+ * significant first, with the top bit of each byte set if more bytes follow:
+ * <pre>
+ * file     := MAGIC version:varint personCount:varint person* meetingCount:varint meeting* checksum
+ * person   := name:string phone:string email:string company:ref position:ref importance:ref
+ *             tagCount:varint tag:ref*
+ * meeting  := start:varint participantCount:varint participant:varint* notes:string duration:varint
+ * string   := byteCount:varint UTF-8 bytes
+ * ref      := 0 string | id:varint
+ * checksum := CRC-32 of all the bytes before it, as 4 bytes, most significant first
+ * </pre>
+ * Values that many persons share, such as companies and tags, are written as refs: the first time a value is
+ * written, it is written in full after a 0 and given the next id, starting from 1, and from then on only its id is
+ * written. A meeting's start is the number of seconds from 1970-01-01 00:00, zigzag-encoded so that earlier times
+ * stay short, and its participants are the indexes of the persons with their names. Its duration is in minutes,
+ * or 0 if it has none.
+ */
+public class BinaryAddressBookWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CRC32 checksum = new CRC32();
+    private final Map<String, Integer> refIds = new HashMap<>();
+
+    private BinaryAddressBookWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the file if it exists.
+     *
+     * @param isSynced whether to force the file onto the disk before returning.
+     */
+    public static void write(Path filePath, ReadOnlyAddressBook addressBook, boolean isSynced) throws IOException {
+        requireAllNonNull(filePath, addressBook);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            new BinaryAddressBookWriter(channel).writeAddressBook(addressBook);
+            if (isSynced) {
+                channel.force(true);
+            }
+        }
+    }
+
+    private void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        writeBytes(BinaryAddressBookStorage.MAGIC);
+        writeVarLong(BinaryAddressBookStorage.FORMAT_VERSION);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> personIds = new HashMap<>();
+        writeVarLong(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            personIds.putIfAbsent(person.getName().fullName, i);
+            writePerson(person);
+        }
+
+        List<Meeting> meetings = addressBook.getMeetingList();
+        writeVarLong(meetings.size());
+        for (Meeting meeting : meetings) {
+            writeMeeting(meeting, personIds);
+        }
+
+        flush();
+        buffer.putInt((int) checksum.getValue());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void writePerson(Person person) throws IOException {
+        writeString(person.getName().fullName);
+        writeString(person.getPhone().value);
+        writeString(person.getEmail().value);
+        writeRef(person.getCompany().value);
+        writeRef(person.getPosition().value);
+        writeRef(person.getImportance().value);
+        writeVarLong(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeRef(tag.tagName);
+        }
+    }
+
+    private void writeMeeting(Meeting meeting, Map<String, Integer> personIds) throws IOException {
+        long start = meeting.getDateTime().meetingTime.toEpochSecond(ZoneOffset.UTC);
+        writeVarLong((start << 1) ^ (start >> 63));
+        writeVarLong(meeting.getPersonList().size());
+        for (String participant : meeting.getPersonList()) {
+            Integer personId = personIds.get(participant);
+            if (personId == null) {
+                throw new IOException("Meeting participant " + participant + " is not in the address book");
+            }
+            writeVarLong(personId);
+        }
+        writeString(meeting.getNotes().value);
+        writeVarLong(meeting.getDuration().map(duration -> duration.minutes).orElse(0));
+    }
+
+    private void writeRef(String value) throws IOException {
+        Integer id = refIds.get(value);
+        if (id != null) {
+            writeVarLong(id);
+            return;
+        }
+        refIds.put(value, refIds.size() + 1);
+        writeVarLong(0);
+        writeString(value);
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        writeBytes(bytes);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    private void writeByte(int value) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) value);
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Writes out the buffered bytes, adding them to the checksum, and empties the buffer.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        checksum.update(buffer.array(), 0, buffer.limit());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
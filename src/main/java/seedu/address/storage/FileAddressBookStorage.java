@@ -0,0 +1,291 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+
+/**
+ * A class to access AddressBook data stored as a file on the hard disk, in a format decided by the subclass.
+ *
+ * Saves never overwrite the data file in place: the data is written to a sibling temporary file, which is then
+ * moved over the data file in one step, after the previous data file is kept as a backup. A crash during a save
+ * therefore leaves either the old or the new data file, and reading falls back to the newest of the data, temporary
+ * and backup files that can be read.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+    public static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofSeconds(5);
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private Path filePath;
+    private final DurabilityPolicy durabilityPolicy;
+    private final long syncIntervalNanos;
+    private long lastSyncTime;
+    private boolean hasSynced = false;
+
+    /**
+     * Creates a {@code FileAddressBookStorage} that saves to {@code filePath}, forcing saves onto the disk as
+     * {@code durabilityPolicy} says.
+     *
+     * @param syncInterval the least time between forced saves under {@link DurabilityPolicy#PERIODIC}.
+     */
+    protected FileAddressBookStorage(Path filePath, DurabilityPolicy durabilityPolicy, Duration syncInterval) {
+        requireNonNull(durabilityPolicy);
+        requireNonNull(syncInterval);
+        this.filePath = filePath;
+        this.durabilityPolicy = durabilityPolicy;
+        this.syncIntervalNanos = syncInterval.toNanos();
+    }
+
+    /**
+     * Returns the storage for the data file, format and durability policy in {@code userPrefs}.
+     */
+    public static FileAddressBookStorage of(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        if (userPrefs.getAddressBookStorageFormat() == StorageFormat.BINARY) {
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.getAddressBookDurabilityPolicy(), DEFAULT_SYNC_INTERVAL);
+        }
+        return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), userPrefs.isAddressBookPrettyPrinted(),
+                userPrefs.getAddressBookDurabilityPolicy(), DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Returns the temporary file that saves to {@code filePath} are written to before being moved into place.
+     */
+    public static Path getTempFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the file that the previous version of {@code filePath} is kept in.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + BACKUP_FILE_SUFFIX);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the data file cannot be read, or a save was interrupted after writing a newer temporary file, the newest
+     * of the data, temporary and backup files that can be read is used instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if none of the files could be read. The error is the data file's, if it exists.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        // a stable sort, so that the data file is tried first if it is as new as the others
+        List<Path> candidates = Stream.of(filePath, getTempFilePath(filePath), getBackupFilePath(filePath))
+                .filter(Files::exists)
+                .sorted(Comparator.comparing(FileAddressBookStorage::getLastModifiedTime).reversed())
+                .collect(Collectors.toList());
+
+        DataLoadingException error = null;
+        for (Path candidate : candidates) {
+            try {
+                ReadOnlyAddressBook addressBook = readFile(candidate);
+                if (!candidate.equals(filePath)) {
+                    logger.warning("Recovered data from " + candidate + " instead of " + filePath);
+                }
+                return Optional.of(addressBook);
+            } catch (DataLoadingException e) {
+                if (error == null || candidate.equals(filePath)) {
+                    error = e;
+                }
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        }
+        return Optional.empty();
+    }
+
+    private ReadOnlyAddressBook readFile(Path filePath) throws DataLoadingException {
+        logger.info("Data file " + filePath + " found.");
+
+        try {
+            return read(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns an address book of just the first {@code count} persons in the data file, without any meetings, or an
+     * empty {@code Optional} if there is no data file. This is much faster than reading the whole file when it is
+     * large, but as the rest of the file is not read, these persons may differ from those that
+     * {@link #readAddressBook()} reads, e.g. if the file turns out to be invalid, or a backup is recovered instead.
+     *
+     * @throws DataLoadingException if the start of the data file could not be read.
+     */
+    public Optional<ReadOnlyAddressBook> readFirstPersons(int count) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readFirstPersons(filePath, count));
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the address book stored in {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    protected abstract ReadOnlyAddressBook read(Path filePath) throws IOException, IllegalValueException;
+
+    /**
+     * Returns an address book of just the first {@code count} persons stored in {@code filePath}, reading no more of
+     * the file than needed.
+     *
+     * @throws IOException if the file cannot be read or does not start in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated by those persons.
+     */
+    protected abstract ReadOnlyAddressBook readFirstPersons(Path filePath, int count)
+            throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the file if it exists.
+     *
+     * @param isSynced whether to force the file onto the disk before returning.
+     */
+    protected abstract void write(Path filePath, ReadOnlyAddressBook addressBook, boolean isSynced)
+            throws IOException;
+
+    private static long getLastModifiedTime(Path filePath) {
+        try {
+            return Files.getLastModifiedTime(filePath).toMillis();
+        } catch (IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isSynced = isSyncDue();
+        Path tempFilePath = getTempFilePath(filePath);
+        write(tempFilePath, addressBook, isSynced);
+        backUp(filePath);
+        moveIntoPlace(tempFilePath, filePath);
+        if (isSynced) {
+            syncDirectory(filePath.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Returns whether the next save should be forced onto the disk, and if so, notes that it is about to be.
+     */
+    private boolean isSyncDue() {
+        switch (durabilityPolicy) {
+        case EVERY_SAVE:
+            return true;
+        case PERIODIC:
+            long now = System.nanoTime();
+            if (hasSynced && now - lastSyncTime < syncIntervalNanos) {
+                return false;
+            }
+            hasSynced = true;
+            lastSyncTime = now;
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Keeps the current version of {@code filePath}, if any, as its backup. The backup is a second link to the
+     * same file rather than a copy, so it costs no writing, and is left behind when the new version is moved in.
+     */
+    private static void backUp(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return;
+        }
+        Path backupFilePath = getBackupFilePath(filePath);
+        Files.deleteIfExists(backupFilePath);
+        try {
+            Files.createLink(backupFilePath, filePath);
+        } catch (UnsupportedOperationException | IOException e) {
+            // the file system cannot link files, so there is no backup, but the save itself is still atomic
+            logger.fine("Could not back up " + filePath + ": " + e);
+        }
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the move of a file into {@code directory} onto the disk, where the platform allows it.
+     */
+    private static void syncDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened on some platforms, e.g. Windows, which do not need them forced anyway
+            logger.fine("Could not force " + directory + " onto the disk: " + e);
+        }
+    }
+}
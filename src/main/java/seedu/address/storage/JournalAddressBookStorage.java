@@ -0,0 +1,297 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file plus an append-only journal of mutations.
+ * Saving only appends the person and meeting changes made since the previous save to the journal, and the
+ * journal is periodically compacted into a fresh snapshot. Reading replays the journal on top of the snapshot.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final FileAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    private final List<JsonAdaptedJournalEntry> pendingEntries = new ArrayList<>();
+    private final ListChangeListener<Person> personListener =
+            change -> recordChange(change, JsonAdaptedJournalEntry::ofPerson);
+    private final ListChangeListener<Meeting> meetingListener =
+            change -> recordChange(change, JsonAdaptedJournalEntry::ofMeeting);
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private boolean isCompactionRequired = true;
+    private int journalledEntryCount = 0;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts the journal into a new snapshot once it holds
+     * more than {@code compactionThreshold} entries.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(new JsonAddressBookStorage(requireNonNull(filePath)), compactionThreshold);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that writes its snapshots with {@code snapshotStorage}, and
+     * compacts the journal into a new snapshot once it holds more than {@code compactionThreshold} entries.
+     */
+    public JournalAddressBookStorage(FileAddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the location of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal, if any, on top of it.
+     * A journal that was written for an older snapshot is ignored, as its changes are already in the snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() || !FileUtil.isFileExists(journalFilePath)) {
+            return snapshot;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !isJournalOf(lines.get(0), computeChecksum(filePath))) {
+                logger.info("Ignoring stale journal " + journalFilePath);
+                return snapshot;
+            }
+            return Optional.of(replay(snapshot.get(), lines));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the journal when {@code filePath} is this storage's own file, otherwise a plain snapshot
+     * is written to {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (addressBook != trackedAddressBook) {
+            track(addressBook);
+        }
+
+        if (isCompactionRequired || journalledEntryCount + pendingEntries.size() > compactionThreshold) {
+            compact(addressBook);
+        } else if (!pendingEntries.isEmpty()) {
+            appendPendingEntries();
+        }
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, which will be written out as a full snapshot
+     * on the next save.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(personListener);
+            trackedAddressBook.getMeetingList().removeListener(meetingListener);
+        }
+        trackedAddressBook = addressBook;
+        addressBook.getPersonList().addListener(personListener);
+        addressBook.getMeetingList().addListener(meetingListener);
+        pendingEntries.clear();
+        isCompactionRequired = true;
+    }
+
+    /**
+     * Translates {@code change} into journal entries. Bulk changes, such as those caused by resetting the whole
+     * address book, are not journalled and trigger a compaction instead.
+     */
+    private <T> void recordChange(ListChangeListener.Change<? extends T> change, EntryFactory<T> factory) {
+        while (change.next() && !isCompactionRequired) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                requireCompaction();
+            } else if (change.wasReplaced() && change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                pendingEntries.add(factory.create(JsonAdaptedJournalEntry.OP_SET, from,
+                        change.getAddedSubList().get(0)));
+            } else if (change.getRemovedSize() + change.getAddedSize() == 1) {
+                if (change.wasRemoved()) {
+                    pendingEntries.add(factory.create(JsonAdaptedJournalEntry.OP_REMOVE, from,
+                            change.getRemoved().get(0)));
+                } else {
+                    pendingEntries.add(factory.create(JsonAdaptedJournalEntry.OP_ADD, from,
+                            change.getAddedSubList().get(0)));
+                }
+            } else {
+                requireCompaction();
+            }
+        }
+    }
+
+    private void requireCompaction() {
+        pendingEntries.clear();
+        isCompactionRequired = true;
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot and starts an empty journal on top of it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal into snapshot " + getAddressBookFilePath());
+        Path filePath = getAddressBookFilePath();
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.ofHeader(computeChecksum(filePath)));
+        Files.write(getJournalFilePath(filePath), (header + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+
+        pendingEntries.clear();
+        journalledEntryCount = 0;
+        isCompactionRequired = false;
+    }
+
+    private void appendPendingEntries() throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : pendingEntries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        }
+
+        try {
+            Files.write(getJournalFilePath(getAddressBookFilePath()), lines.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ioe) {
+            // The journal may now end with a partially written entry, so start afresh from a snapshot next time
+            requireCompaction();
+            throw ioe;
+        }
+
+        journalledEntryCount += pendingEntries.size();
+        pendingEntries.clear();
+    }
+
+    /**
+     * Returns true if the header {@code line} marks a journal written on top of a snapshot with {@code checksum}.
+     */
+    private static boolean isJournalOf(String line, long checksum) throws IOException {
+        JsonAdaptedJournalEntry header = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+        return header.isHeader() && header.getSnapshotChecksum() != null
+                && header.getSnapshotChecksum() == checksum;
+    }
+
+    /**
+     * Returns a copy of {@code snapshot} with the journal entries in {@code lines} applied, skipping the header.
+     * A malformed final entry is treated as an interrupted write and dropped.
+     */
+    private static AddressBook replay(ReadOnlyAddressBook snapshot, List<String> lines)
+            throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(snapshot.getPersonList());
+        List<Meeting> meetings = new ArrayList<>(snapshot.getMeetingList());
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Dropping incomplete journal entry at line " + (i + 1));
+                    break;
+                }
+                throw new IllegalValueException(String.format(JsonAdaptedJournalEntry.MESSAGE_INVALID_ENTRY,
+                        "line " + (i + 1)), e);
+            }
+            entry.applyTo(persons, meetings);
+        }
+        logger.info("Replayed " + (lines.size() - 1) + " journal entries");
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+            addressBook.setMeetings(meetings);
+        } catch (DuplicatePersonException | IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+        return addressBook;
+    }
+
+    private static long computeChecksum(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(filePath));
+        return crc.getValue();
+    }
+
+    /**
+     * Creates the journal entry for a single change to a list of {@code T}.
+     */
+    @FunctionalInterface
+    private interface EntryFactory<T> {
+        JsonAdaptedJournalEntry create(String op, int index, T item);
+    }
+
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single mutation recorded in the address book journal.
+ * Each entry describes one positional change to either the person list or the meeting list.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String OP_HEADER = "header";
+    public static final String OP_ADD = "add";
+    public static final String OP_REMOVE = "remove";
+    public static final String OP_SET = "set";
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is invalid: %s";
+    public static final String MESSAGE_OUT_OF_SYNC = "Journal entry does not match the snapshot: %s";
+
+    private final String op;
+    private final int index;
+    private final Long snapshotChecksum;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedMeeting meeting;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("index") int index,
+                                   @JsonProperty("snapshotChecksum") Long snapshotChecksum,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("meeting") JsonAdaptedMeeting meeting) {
+        this.op = op;
+        this.index = index;
+        this.snapshotChecksum = snapshotChecksum;
+        this.person = person;
+        this.meeting = meeting;
+    }
+
+    /**
+     * Returns the header entry that starts a journal written on top of a snapshot with the given checksum.
+     */
+    public static JsonAdaptedJournalEntry ofHeader(long snapshotChecksum) {
+        return new JsonAdaptedJournalEntry(OP_HEADER, 0, snapshotChecksum, null, null);
+    }
+
+    /**
+     * Returns an entry recording {@code op} on the person list at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry ofPerson(String op, int index, Person person) {
+        return new JsonAdaptedJournalEntry(op, index, null, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry recording {@code op} on the meeting list at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry ofMeeting(String op, int index, Meeting meeting) {
+        return new JsonAdaptedJournalEntry(op, index, null, null, new JsonAdaptedMeeting(meeting));
+    }
+
+    public boolean isHeader() {
+        return OP_HEADER.equals(op);
+    }
+
+    public Long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    /**
+     * Replays this entry on the given lists.
+     *
+     * @throws IllegalValueException if the entry is malformed or does not fit the current contents of the lists.
+     */
+    public void applyTo(List<Person> persons, List<Meeting> meetings) throws IllegalValueException {
+        if (person != null && meeting == null) {
+            apply(persons, person.toModelType());
+        } else if (meeting != null && person == null) {
+            apply(meetings, meeting.toModelType());
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+    }
+
+    private <T> void apply(List<T> list, T item) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "missing op"));
+        }
+
+        switch (op) {
+        case OP_ADD:
+            checkIndex(index, list.size() + 1);
+            list.add(index, item);
+            break;
+        case OP_REMOVE:
+            checkIndex(index, list.size());
+            if (!list.get(index).equals(item)) {
+                throw new IllegalValueException(String.format(MESSAGE_OUT_OF_SYNC, op + " " + index));
+            }
+            list.remove(index);
+            break;
+        case OP_SET:
+            checkIndex(index, list.size());
+            list.set(index, item);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+    }
+
+    private void checkIndex(int index, int bound) throws IllegalValueException {
+        if (index < 0 || index >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_OUT_OF_SYNC, op + " " + index));
+        }
+    }
+
+}
@@ -6,10 +6,12 @@ import java.util.List;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingTime;
 import seedu.address.model.meeting.Notes;
 
@@ -23,17 +25,22 @@ class JsonAdaptedMeeting {
     private final String meetingTime;
     private final List<String> persons = new ArrayList<>();
     private final String notes;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String duration;
 
     /**
      * Constructs a {@code JsonAdaptedMeeting} with the given meeting details.
+     * {@code duration} is optional, as meetings saved by older versions have none.
      */
     @JsonCreator
     public JsonAdaptedMeeting(@JsonProperty("meetingTime") String meetingTime,
                              @JsonProperty("persons") List<String> persons,
-                             @JsonProperty("notes") String notes) {
+                             @JsonProperty("notes") String notes,
+                             @JsonProperty("duration") String duration) {
         this.meetingTime = meetingTime;
         this.persons.addAll(persons);
         this.notes = notes;
+        this.duration = duration;
     }
 
     /**
@@ -43,6 +50,7 @@ class JsonAdaptedMeeting {
         meetingTime = source.getDateTime().toString();
         persons.addAll(source.getPersonList());
         notes = source.getNotes().value;
+        duration = source.getDuration().map(MeetingDuration::toString).orElse(null);
     }
 
     /**
@@ -73,7 +81,12 @@ class JsonAdaptedMeeting {
 
         final Notes modelNotes = new Notes(notes);
 
-        return new Meeting(modelMeetingTime, modelPersons, modelNotes);
+        if (duration != null && !MeetingDuration.isValidMeetingDuration(duration)) {
+            throw new IllegalValueException(MeetingDuration.MESSAGE_CONSTRAINTS);
+        }
+        final MeetingDuration modelDuration = duration == null ? null : new MeetingDuration(duration);
+
+        return new Meeting(modelMeetingTime, modelPersons, modelNotes, modelDuration);
     }
 
 }
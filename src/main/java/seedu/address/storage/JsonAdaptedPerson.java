@@ -112,7 +112,7 @@ class JsonAdaptedPerson {
         if (!Company.isValidCompany(company)) {
             throw new IllegalValueException(Company.MESSAGE_CONSTRAINTS);
         }
-        final Company modelCompany = new Company(company);
+        final Company modelCompany = Company.of(company);
 
         if (position == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -121,7 +121,7 @@ class JsonAdaptedPerson {
         if (!Position.isValidPosition(position)) {
             throw new IllegalValueException(Position.MESSAGE_CONSTRAINTS);
         }
-        final Position modelPosition = new Position(position);
+        final Position modelPosition = Position.of(position);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * Reads an address book from a JSON data file one record at a time, in the format written by
+ * {@link JsonAddressBookStorage} and {@link JsonAddressBookWriter}.
+ * Persons and meetings are converted to the model type and added to the address book in small batches as they are
+ * read, so only the address book itself and one batch are held in memory, rather than the file contents and the
+ * Jackson-friendly copies of every record too. Each batch is converted in parallel.
+ */
+public class JsonAddressBookReader {
+
+    /**
+     * The number of records read before they are converted together, which bounds the number of records held in
+     * memory in their Jackson-friendly form.
+     */
+    static final int CONVERSION_BATCH_SIZE = 16 * ParallelRecordConverter.CHUNK_SIZE;
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Returns the address book stored in {@code filePath}.
+     * Fields other than {@code persons} and {@code meetings} are ignored, and a missing list is read as empty.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated, as in
+     *     {@link JsonSerializableAddressBook#toModelType()}.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        AddressBook addressBook = new AddressBook();
+        // meetings are set once every person is added, as their participants must exist by then
+        List<Meeting> meetings = new ArrayList<>();
+
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (fieldName.equals("persons") && token != JsonToken.VALUE_NULL) {
+                    expect(parser, token, JsonToken.START_ARRAY);
+                    readArray(parser, JsonAdaptedPerson.class, batch ->
+                            JsonSerializableAddressBook.addPersons(addressBook, batch));
+                } else if (fieldName.equals("meetings") && token != JsonToken.VALUE_NULL) {
+                    expect(parser, token, JsonToken.START_ARRAY);
+                    readArray(parser, JsonAdaptedMeeting.class, batch ->
+                            meetings.addAll(JsonSerializableAddressBook.convertMeetings(batch)));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+
+        JsonSerializableAddressBook.setMeetings(addressBook, meetings);
+        return addressBook;
+    }
+
+    /**
+     * Returns an address book of just the first {@code count} persons stored in {@code filePath}, without any
+     * meetings. Reading stops once those persons are read, so this is much faster than {@link #read(Path)} for large
+     * files, but the rest of the file is not checked.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated by those persons.
+     */
+    public static AddressBook readFirstPersons(Path filePath, int count) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (fieldName.equals("persons") && token != JsonToken.VALUE_NULL) {
+                    expect(parser, token, JsonToken.START_ARRAY);
+                    while (persons.size() < count && parser.nextToken() != JsonToken.END_ARRAY) {
+                        persons.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    }
+                    break;
+                }
+                parser.skipChildren();
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        JsonSerializableAddressBook.addPersons(addressBook, persons);
+        return addressBook;
+    }
+
+    /**
+     * Reads the records in the array that {@code parser} is at the start of, passing them to {@code consumer} in
+     * batches of at most {@link #CONVERSION_BATCH_SIZE} records, until the end of the array.
+     */
+    private static <T> void readArray(JsonParser parser, Class<T> type, BatchConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        List<T> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(type));
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                consumer.accept(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        consumer.accept(batch);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Handles a batch of records read from the data file.
+     */
+    @FunctionalInterface
+    private interface BatchConsumer<T> {
+        void accept(List<T> batch) throws IllegalValueException;
+    }
+}
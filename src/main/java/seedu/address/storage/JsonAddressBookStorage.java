@@ -1,80 +1,73 @@
 package seedu.address.storage;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
-import java.util.logging.Logger;
+import java.time.Duration;
 
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.core.DurabilityPolicy;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The persons and meetings are read and written one at a time, without holding the whole document in memory.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
-
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+public class JsonAddressBookStorage extends FileAddressBookStorage {
 
-    private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
-    }
-
-    public Path getAddressBookFilePath() {
-        return filePath;
+        this(filePath, true);
     }
 
-    @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(filePath);
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath}, forcing saves onto the disk at most
+     * once every {@link #DEFAULT_SYNC_INTERVAL}.
+     *
+     * @param isPrettyPrinted whether saved files are indented for reading by people. Compact files are smaller
+     *     and faster to save, and are read the same way.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DurabilityPolicy.PERIODIC, DEFAULT_SYNC_INTERVAL);
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath}, forcing saves onto the disk as
+     * {@code durabilityPolicy} says.
      *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @param syncInterval the least time between forced saves under {@link DurabilityPolicy#PERIODIC}.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, DurabilityPolicy durabilityPolicy,
+            Duration syncInterval) {
+        super(filePath, durabilityPolicy, syncInterval);
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+    /**
+     * {@inheritDoc}
+     * A binary data file is read as such, e.g. after the storage format was switched without converting the file,
+     * so that its data is kept, and converted by the next save, instead of being taken for an invalid file.
+     */
+    @Override
+    protected ReadOnlyAddressBook read(Path filePath) throws IOException, IllegalValueException {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return BinaryAddressBookReader.read(filePath, BinaryAddressBookStorage.IS_MEMORY_MAPPED_BY_DEFAULT);
         }
+        return JsonAddressBookReader.read(filePath);
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+    protected ReadOnlyAddressBook readFirstPersons(Path filePath, int count) throws IOException, IllegalValueException {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return BinaryAddressBookReader.readFirstPersons(filePath, count,
+                    BinaryAddressBookStorage.IS_MEMORY_MAPPED_BY_DEFAULT);
+        }
+        return JsonAddressBookReader.readFirstPersons(filePath, count);
     }
 
-    /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
-        requireNonNull(filePath);
-
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    @Override
+    protected void write(Path filePath, ReadOnlyAddressBook addressBook, boolean isSynced) throws IOException {
+        JsonAddressBookWriter.write(filePath, addressBook.getPersonList(), addressBook.getMeetingList(),
+                isPrettyPrinted, isSynced);
     }
-
 }
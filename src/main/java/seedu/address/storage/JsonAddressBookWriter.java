@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes persons and meetings to a JSON data file one record at a time, in the same format as
+ * {@link JsonAddressBookStorage}, so that data larger than the heap can be written as long as it can be iterated.
+ */
+public class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code persons} and {@code meetings} to {@code filePath}, replacing the file if it exists.
+     *
+     * @param isPrettyPrinted whether to indent the JSON as {@link JsonAddressBookStorage} does.
+     */
+    public static void write(Path filePath, Iterable<Person> persons, Iterable<Meeting> meetings,
+            boolean isPrettyPrinted) throws IOException {
+        write(filePath, persons, meetings, isPrettyPrinted, false);
+    }
+
+    /**
+     * Similar to {@link #write(Path, Iterable, Iterable, boolean)}.
+     *
+     * @param isSynced whether to force the file onto the disk before returning.
+     */
+    public static void write(Path filePath, Iterable<Person> persons, Iterable<Meeting> meetings,
+            boolean isPrettyPrinted, boolean isSynced) throws IOException {
+        requireAllNonNull(filePath, persons, meetings);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        // the generator buffers its output itself, so the file's stream needs no buffering of its own
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                JsonGenerator generator = JsonUtil.createGenerator(
+                        Channels.newOutputStream(channel), isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("meetings");
+            for (Meeting meeting : meetings) {
+                generator.writeObject(new JsonAdaptedMeeting(meeting));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+            if (isSynced) {
+                channel.force(true);
+            }
+        }
+    }
+}
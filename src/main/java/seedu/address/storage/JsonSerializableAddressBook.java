@@ -12,6 +12,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.exceptions.DuplicateMeetingException;
+import seedu.address.model.meeting.exceptions.InvalidMeetingException;
 import seedu.address.model.person.Person;
 
 /**
@@ -48,26 +50,59 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The records are converted and validated in parallel, but any error is that of the first invalid record,
+     * as if they were converted in order.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        addPersons(addressBook, persons);
+        setMeetings(addressBook, convertMeetings(meetings));
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} into the model's {@code Person}s in parallel, then adds them to
+     * {@code addressBook} in order.
+     *
+     * @throws IllegalValueException if any person is invalid, in which case none are added, or if a person is
+     *     already in {@code addressBook}.
+     */
+    static void addPersons(AddressBook addressBook, List<JsonAdaptedPerson> jsonAdaptedPersons)
+            throws IllegalValueException {
+        for (Person person : ParallelRecordConverter.convertAll(jsonAdaptedPersons, JsonAdaptedPerson::toModelType)) {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
         }
-        for (JsonAdaptedMeeting jsonAdaptedMeeting : meetings) {
-            Meeting meeting = jsonAdaptedMeeting.toModelType();
-            if (addressBook.hasMeeting(meeting)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_MEETING);
-            }
-            addressBook.addMeeting(meeting, addressBook.getPersonList(), addressBook.getMeetingList());
+    }
+
+    /**
+     * Converts {@code jsonAdaptedMeetings} into the model's {@code Meeting}s in parallel, in order.
+     *
+     * @throws IllegalValueException if any meeting is invalid.
+     */
+    static List<Meeting> convertMeetings(List<JsonAdaptedMeeting> jsonAdaptedMeetings) throws IllegalValueException {
+        return ParallelRecordConverter.convertAll(jsonAdaptedMeetings, JsonAdaptedMeeting::toModelType);
+    }
+
+    /**
+     * Replaces the meetings of {@code addressBook}, which must already hold every person, with {@code meetings}.
+     * As the meetings are set all at once, meetings that overlap still load, to be found with the conflicts command.
+     *
+     * @throws IllegalValueException if {@code meetings} contains duplicate meetings, or a meeting involves persons
+     *     that are not in {@code addressBook}.
+     */
+    static void setMeetings(AddressBook addressBook, List<Meeting> meetings) throws IllegalValueException {
+        try {
+            addressBook.setMeetings(meetings);
+        } catch (DuplicateMeetingException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_MEETING);
+        } catch (InvalidMeetingException e) {
+            throw new IllegalValueException(e.getMessage());
         }
-        return addressBook;
     }
 
 }
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts Jackson-friendly records into their model types on the common fork-join pool, a chunk of records per task,
+ * as converting and validating each record is independent of the others.
+ * The outcome is the same as converting the records one by one in order: the results are in the order of the
+ * records, and if any records are invalid, the error thrown is always that of the first of them.
+ */
+class ParallelRecordConverter {
+
+    /** The number of records converted by each task, enough for a task to outweigh the cost of scheduling it. */
+    static final int CHUNK_SIZE = 512;
+
+    private ParallelRecordConverter() {}
+
+    /**
+     * Returns the model types of {@code records}, converted by {@code conversion}, in the order of the records.
+     *
+     * @throws IllegalValueException the error of the first record, by index, that could not be converted.
+     */
+    static <T, R> List<R> convertAll(List<? extends T> records, Conversion<? super T, ? extends R> conversion)
+            throws IllegalValueException {
+        requireNonNull(records);
+        requireNonNull(conversion);
+
+        int recordCount = records.size();
+        int chunkCount = (recordCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<R> results = new ArrayList<>(Collections.nCopies(recordCount, null));
+        IllegalValueException[] chunkErrors = new IllegalValueException[chunkCount];
+        AtomicInteger firstErrorIndex = new AtomicInteger(Integer.MAX_VALUE);
+
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            int end = Math.min(recordCount, (chunk + 1) * CHUNK_SIZE);
+            // records after an invalid one are not needed, but every record before it must still be checked,
+            // lest an earlier invalid record be missed
+            for (int i = chunk * CHUNK_SIZE; i < end && i < firstErrorIndex.get(); i++) {
+                try {
+                    results.set(i, conversion.convert(records.get(i)));
+                } catch (IllegalValueException e) {
+                    chunkErrors[chunk] = e;
+                    firstErrorIndex.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        });
+
+        if (firstErrorIndex.get() != Integer.MAX_VALUE) {
+            throw chunkErrors[firstErrorIndex.get() / CHUNK_SIZE];
+        }
+        return results;
+    }
+
+    /**
+     * Converts a record into its model type.
+     */
+    @FunctionalInterface
+    interface Conversion<T, R> {
+        R convert(T record) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Decorates an {@link AddressBookStorage} so that saving happens on a background writer thread.
+ * Saving only takes a snapshot of the address book; the snapshot is then written out by the writer.
+ * Saves requested while the writer is busy are coalesced, so only the latest snapshot of each file is written.
+ * As saves return before the data reaches the disk, failures are reported to the save error listener instead.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Latest snapshot waiting to be written for each file, in the order the files were first saved to. */
+    private final Map<Path, ReadOnlyAddressBook> pendingSnapshots = new LinkedHashMap<>();
+    private boolean isWriting = false;
+    private Consumer<IOException> saveErrorListener = unused -> {};
+
+    public WriteBehindAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Sets the listener to be notified, on the writer thread, whenever writing a snapshot fails.
+     */
+    public void setSaveErrorListener(Consumer<IOException> saveErrorListener) {
+        requireNonNull(saveErrorListener);
+        this.saveErrorListener = saveErrorListener;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Waits for pending saves to finish, then reads the address book from {@code filePath}.
+     *
+     * @see AddressBookStorage#readAddressBook(Path)
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        flush();
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written to {@code filePath}, replacing any snapshot for
+     * the same file that has not been written yet.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        synchronized (this) {
+            pendingSnapshots.put(filePath, snapshot);
+            if (!isWriting) {
+                isWriting = true;
+                writer.execute(this::writePendingSnapshots);
+            }
+        }
+    }
+
+    /**
+     * Blocks until every snapshot scheduled so far has been written.
+     */
+    public synchronized void flush() {
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes out all pending snapshots and stops the writer thread.
+     */
+    public void close() {
+        flush();
+        writer.shutdown();
+    }
+
+    /**
+     * Writes pending snapshots one at a time until there are none left.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            Map.Entry<Path, ReadOnlyAddressBook> next;
+            synchronized (this) {
+                Iterator<Map.Entry<Path, ReadOnlyAddressBook>> iterator = pendingSnapshots.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                next = iterator.next();
+                iterator.remove();
+            }
+
+            try {
+                addressBookStorage.saveAddressBook(next.getValue(), next.getKey());
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to write address book to " + next.getKey() + ": " + StringUtil.getDetails(e));
+                saveErrorListener.accept(e instanceof IOException ? (IOException) e : new IOException(e));
+            }
+        }
+    }
+
+}
@@ -1,12 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,9 +14,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private int pendingCommandCount = 0;
 
     @FXML
     private TextField commandTextField;
@@ -33,6 +35,8 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background, so the user may keep typing while it does. The command box is only
+     * cleared, or marked as failed, if its text has not been changed since the command was entered.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,11 +45,31 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        setPendingCommandCount(pendingCommandCount + 1);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setPendingCommandCount(pendingCommandCount - 1);
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Sets the number of commands that have been entered but not completed, showing the command box as busy
+     * while there are any.
+     */
+    private void setPendingCommandCount(int pendingCommandCount) {
+        this.pendingCommandCount = pendingCommandCount;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (pendingCommandCount == 0) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
     }
 
@@ -75,11 +99,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns the result, which completes on the JavaFX application thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
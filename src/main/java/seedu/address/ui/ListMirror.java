@@ -0,0 +1,73 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that follows every change made to it, but applies those changes through an
+ * executor, such as {@code Platform::runLater}.
+ * This lets the UI display a list that is modified on another thread, as the copy is only ever modified on the
+ * JavaFX application thread. Changes are applied in the order they were made to the source list.
+ */
+public class ListMirror<T> {
+
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+
+    /**
+     * Creates a {@code ListMirror} of {@code source}, which must not be modified by another thread until this
+     * constructor returns.
+     */
+    public ListMirror(ObservableList<? extends T> source, Executor executor) {
+        requireAllNonNull(source, executor);
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener((ListChangeListener.Change<? extends T> change) -> {
+            List<Runnable> edits = recordEdits(change);
+            executor.execute(() -> edits.forEach(Runnable::run));
+        });
+    }
+
+    /**
+     * Returns the copy as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Returns the edits that replay {@code change} on the copy. The elements involved are copied straight away,
+     * as the source list may have changed again by the time the edits are applied.
+     */
+    private List<Runnable> recordEdits(ListChangeListener.Change<? extends T> change) {
+        List<Runnable> edits = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<T> elements = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                edits.add(() -> {
+                    for (int i = 0; i < elements.size(); i++) {
+                        mirror.set(from + i, elements.get(i));
+                    }
+                });
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                edits.add(() -> {
+                    if (removedSize > 0) {
+                        mirror.remove(from, from + removedSize);
+                    }
+                    mirror.addAll(from, added);
+                });
+            }
+        }
+        return edits;
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,8 +16,6 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -34,6 +34,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private MeetingListPanel meetingListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -114,16 +115,19 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        // commands modify the model in the background, so the panels show copies kept up to date on this thread
+        personListPanel = new PersonListPanel(
+                new ListMirror<>(logic.getFilteredPersonList(), Platform::runLater).asUnmodifiableObservableList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        meetingListPanel = new MeetingListPanel(logic.getFilteredMeetingList());
+        meetingListPanel = new MeetingListPanel(
+                new ListMirror<>(logic.getFilteredMeetingList(), Platform::runLater).asUnmodifiableObservableList());
         meetingListPanelPlaceholder.getChildren().add(meetingListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -170,18 +174,40 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows {@code feedbackToUser} in the result display.
+     */
+    void showFeedbackToUser(String feedbackToUser) {
+        resultDisplay.setFeedbackToUser(feedbackToUser);
+    }
+
+    /**
+     * Shows {@code status} of loading the data file in the status bar.
+     *
+     * @see StatusBarFooter#setLoadStatus(String, boolean)
+     */
+    void showLoadStatus(String status, boolean isLoading) {
+        statusBarFooter.setLoadStatus(status, isLoading);
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns the result, which completes on the JavaFX application
+     * thread once the result has been shown to the user.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -192,12 +218,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 }
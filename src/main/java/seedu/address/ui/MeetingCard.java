@@ -1,6 +1,11 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -22,7 +27,7 @@ public class MeetingCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Meeting meeting;
+    private Meeting meeting;
 
     @FXML
     private Label id;
@@ -35,22 +40,60 @@ public class MeetingCard extends UiPart<Region> {
     @FXML
     private Label notes;
 
+    /**
+     * Creates an empty {@code MeetingCard}, to be filled in with {@link #setMeeting(Meeting, int)}.
+     */
+    public MeetingCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code MeetingCode} with the given {@code Meeting} and index to display.
      */
     public MeetingCard(Meeting meeting, int displayedIndex) {
-        super(FXML);
+        this();
+        setMeeting(meeting, displayedIndex);
+    }
+
+    public Meeting getMeeting() {
+        return meeting;
+    }
+
+    /**
+     * Shows {@code meeting} at {@code displayedIndex} in this card, reusing its existing nodes.
+     */
+    public void setMeeting(Meeting meeting, int displayedIndex) {
         assert(displayedIndex >= 0);
         this.meeting = meeting;
         id.setText(displayedIndex + ". ");
-        meetingTime.setText(meeting.getDateTime().toString());
+        meetingTime.setText(meeting.getDateTime().toString()
+                + meeting.getDuration().map(duration -> " (" + duration + " min)").orElse(""));
         notes.setText(meeting.getNotes().value);
-        meeting.getPersonList().stream().forEach(person -> {
-            Label personLabel = new Label(person);
-            personLabel.setMaxWidth(300);
-            personLabel.setMinHeight(Region.USE_PREF_SIZE);
-            personLabel.setStyle("-fx-text-overflow: ellipsis;");
-            people.getChildren().add(personLabel);
-        });
+        setPersonLabels(new ArrayList<>(meeting.getPersonList()));
+    }
+
+    /**
+     * Makes the participant labels show {@code personNames}, reusing the labels already in the card.
+     */
+    private void setPersonLabels(List<String> personNames) {
+        ObservableList<Node> personLabels = people.getChildren();
+        if (personLabels.size() > personNames.size()) {
+            personLabels.remove(personNames.size(), personLabels.size());
+        }
+        for (int i = 0; i < personNames.size(); i++) {
+            if (i < personLabels.size()) {
+                ((Label) personLabels.get(i)).setText(personNames.get(i));
+            } else {
+                personLabels.add(createPersonLabel(personNames.get(i)));
+            }
+        }
+    }
+
+    private static Label createPersonLabel(String personName) {
+        Label personLabel = new Label(personName);
+        personLabel.setMaxWidth(300);
+        personLabel.setMinHeight(Region.USE_PREF_SIZE);
+        personLabel.setStyle("-fx-text-overflow: ellipsis;");
+        return personLabel;
     }
 }
@@ -32,18 +32,24 @@ public class MeetingListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Meeting} using a {@code MeetingCard}.
+     * Each cell creates its card once and rebinds it to whichever meeting the cell is showing.
      */
     class MeetingListViewCell extends ListCell<Meeting> {
+        private MeetingCard card;
+
         @Override
         protected void updateItem(Meeting meeting, boolean empty) {
             super.updateItem(meeting, empty);
 
             if (empty || meeting == null) {
-                logger.info("Meeting list view empty");
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new MeetingCard(meeting, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new MeetingCard();
+                }
+                card.setMeeting(meeting, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -24,7 +27,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -45,11 +48,31 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label importance;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} in this card, reusing its existing nodes.
+     * Loading a card from FXML is far slower than updating the text of its labels, so list cells reuse their card
+     * for every person they show.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
@@ -57,9 +80,28 @@ public class PersonCard extends UiPart<Region> {
         company.setText(person.getCompany().value);
         position.setText(person.getPosition().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        List<String> tagNames = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        setTagLabels(tagNames);
         importance.setText(person.getImportance().value);
     }
+
+    /**
+     * Makes the tag labels show {@code tagNames}, reusing the labels already in the card.
+     */
+    private void setTagLabels(List<String> tagNames) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
+    }
 }
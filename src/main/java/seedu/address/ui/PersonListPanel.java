@@ -31,8 +31,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell creates its card once and rebinds it to whichever person the cell is showing.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +44,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.setPerson(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
 
 /**
@@ -17,6 +18,12 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private ProgressBar loadProgress;
+
+    @FXML
+    private Label loadStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +32,13 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows {@code status} of loading the data file, with a progress bar while it {@code isLoading}.
+     */
+    public void setLoadStatus(String status, boolean isLoading) {
+        loadStatus.setText(status);
+        loadProgress.setVisible(isLoading);
+        loadProgress.setManaged(isLoading);
+    }
+
 }
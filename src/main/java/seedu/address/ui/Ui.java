@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code feedbackToUser} in the result display, e.g. for errors that occur outside of a command. */
+    void showFeedbackToUser(String feedbackToUser);
+
+    /** Shows {@code status} of loading the data file in the background, and whether it {@code isLoading} still. */
+    void showLoadStatus(String status, boolean isLoading);
+
 }
@@ -50,6 +50,20 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showFeedbackToUser(String feedbackToUser) {
+        if (mainWindow != null) {
+            mainWindow.showFeedbackToUser(feedbackToUser);
+        }
+    }
+
+    @Override
+    public void showLoadStatus(String status, boolean isLoading) {
+        if (mainWindow != null) {
+            mainWindow.showLoadStatus(status, isLoading);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -1,6 +1,9 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -140,4 +143,24 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_alreadyFolded_returnsSameInstance() {
+        String folded = "alex yeoh 2nd";
+        assertSame(folded, StringUtil.foldCase(folded));
+    }
+
+    @Test
+    public void foldCase_differentCase_foldsToSameString() {
+        assertEquals(StringUtil.foldCase("alex yeoh"), StringUtil.foldCase("ALEX Yeoh"));
+        assertEquals(StringUtil.foldCase("\u0131"), StringUtil.foldCase("I")); // dotless i equalsIgnoreCase I
+        assertNotEquals(StringUtil.foldCase("alex"), StringUtil.foldCase("alex yeoh"));
+    }
+
 }
@@ -0,0 +1,195 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.COMPANY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.COMPANY_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.IMPORTANCE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.IMPORTANCE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.POSITION_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.POSITION_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.meeting.MeetingConflict;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY
+            + PHONE_DESC_AMY + COMPANY_DESC_AMY + POSITION_DESC_AMY + IMPORTANCE_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + EMAIL_DESC_BOB
+            + PHONE_DESC_BOB + COMPANY_DESC_BOB + POSITION_DESC_BOB + IMPORTANCE_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final List<Integer> savedPersonCounts = new ArrayList<>();
+    private StorageManager storage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        savedPersonCounts.add(addressBook.getPersonList().size());
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(logic, new PrintStream(output), -1));
+    }
+
+    @Test
+    public void run_noSaveInterval_savesOnceAtEnd() throws Exception {
+        int failedCount = run(0, ADD_AMY, ADD_BOB, ListCommand.COMMAND_WORD);
+
+        assertEquals(0, failedCount);
+        assertEquals(List.of(2), savedPersonCounts);
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_saveInterval_savesEveryIntervalAndAtEnd() throws Exception {
+        run(1, ADD_AMY, ADD_BOB, ListCommand.COMMAND_WORD);
+
+        // the list command leaves the address book unchanged, so nothing more is saved after it
+        assertEquals(List.of(1, 2), savedPersonCounts);
+    }
+
+    @Test
+    public void run_blankLinesAndComments_skipped() throws Exception {
+        run(0, "", "# add everyone", "   ", ADD_AMY);
+
+        assertEquals(String.format(BatchRunner.MESSAGE_SUMMARY, 1, 0), getOutputLines().get(1));
+    }
+
+    @Test
+    public void run_failingCommand_reportedAndScriptContinues() throws Exception {
+        int failedCount = run(0, "uicfhmowqewca", ADD_AMY);
+
+        assertEquals(1, failedCount);
+        assertEquals(String.format(BatchRunner.MESSAGE_COMMAND_FAILED, 1, MESSAGE_UNKNOWN_COMMAND),
+                getOutputLines().get(0));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_commandFailsUnexpectedly_reportedAndEarlierCommandsSaved() throws Exception {
+        IllegalStateException error = new IllegalStateException("unexpected");
+        Model failingModel = new ModelManager() {
+            @Override
+            public List<MeetingConflict> findMeetingConflicts() {
+                throw error;
+            }
+        };
+        logic = new LogicManager(failingModel, storage);
+
+        int failedCount = run(0, ADD_AMY, ConflictsCommand.COMMAND_WORD, ADD_BOB);
+
+        assertEquals(1, failedCount);
+        assertEquals(String.format(BatchRunner.MESSAGE_COMMAND_FAILED, 2, error), getOutputLines().get(1));
+        assertEquals(List.of(2), savedPersonCounts);
+    }
+
+    @Test
+    public void run_scriptUnreadable_earlierCommandsSavedAndErrorThrown() {
+        IOException readError = new IOException("read error");
+        BatchRunner batchRunner = new BatchRunner(logic, new PrintStream(output, true), 0);
+
+        assertThrows(IOException.class, readError.getMessage(), () ->
+                batchRunner.run(getScriptFailingAfterFirstLine(readError)));
+        assertEquals(List.of(1), savedPersonCounts);
+    }
+
+    @Test
+    public void run_scriptUnreadableAndSaveFails_readErrorThrown() {
+        IOException readError = new IOException("read error");
+        IOException saveError = new IOException("save error");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(temporaryFolder.resolve("failing.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw saveError;
+            }
+        };
+        LogicManager failingLogic = new LogicManager(model, new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        BatchRunner batchRunner = new BatchRunner(failingLogic, new PrintStream(output, true), 0);
+
+        assertThrows(IOException.class, readError.getMessage(), () ->
+                batchRunner.run(getScriptFailingAfterFirstLine(readError)));
+        assertEquals(List.of(saveError), List.of(readError.getSuppressed()));
+    }
+
+    @Test
+    public void run_exitCommand_remainingCommandsIgnored() throws Exception {
+        run(0, ADD_AMY, ExitCommand.COMMAND_WORD, ADD_BOB);
+
+        assertEquals(List.of(1), savedPersonCounts);
+        assertEquals(String.format(BatchRunner.MESSAGE_SUMMARY, 2, 0), getOutputLines().get(2));
+    }
+
+    private int run(int saveInterval, String... lines) throws IOException {
+        BatchRunner batchRunner = new BatchRunner(logic, new PrintStream(output, true), saveInterval);
+        return batchRunner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    /**
+     * Returns a script of a single add command, after which reading fails with {@code readError}.
+     */
+    private static BufferedReader getScriptFailingAfterFirstLine(IOException readError) {
+        return new BufferedReader(new StringReader(ADD_AMY)) {
+            private boolean hasReadFirstLine = false;
+
+            @Override
+            public String readLine() throws IOException {
+                if (hasReadFirstLine) {
+                    throw readError;
+                }
+                hasReadFirstLine = true;
+                return super.readLine();
+            }
+        };
+    }
+
+    private List<String> getOutputLines() {
+        return output.toString().lines().toList();
+    }
+}
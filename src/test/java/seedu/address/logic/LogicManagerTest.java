@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX_NONE;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.COMPANY_DESC_AMY;
@@ -21,7 +23,12 @@ import static seedu.address.testutil.TypicalAddressBook.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,10 +36,15 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -41,6 +53,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -92,6 +105,162 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommandAfterSave_skipsSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    private int saveCount = 0;
+
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (saveCount++ > 0) {
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logicManager = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // first command saves, later read-only commands must not touch the (now failing) storage
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterFailedBackgroundWrite_savesAgain() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        JsonAddressBookStorage failingOnceStorage = new JsonAddressBookStorage(filePath) {
+            private int saveCount = 0;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveCount++ == 0) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        WriteBehindAddressBookStorage addressBookStorage = new WriteBehindAddressBookStorage(failingOnceStorage);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logicManager = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        addressBookStorage.setSaveErrorListener(unused -> logicManager.markSaveFailed());
+
+        // the first write fails in the background, so the unchanged address book is written by the next command
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        addressBookStorage.flush();
+        assertFalse(Files.exists(filePath));
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        addressBookStorage.flush();
+        assertTrue(Files.exists(filePath));
+        assertEquals(0, logicManager.getSkippedSaveCount());
+        addressBookStorage.close();
+    }
+
+    @Test
+    public void execute_statsAfterCommand_reportsCommand() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD + " ");
+        String summary = logic.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser();
+        assertTrue(summary.startsWith(CommandMetrics.MESSAGE_HEADER + "\n" + ListCommand.COMMAND_WORD + " x1:"));
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesWithParseException() {
+        CompletableFuture<CommandResult> result = logic.executeAsync("uicfhmowqewca");
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    @Test
+    public void executeAsync_multipleCommands_executedInSubmissionOrder() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY
+                + PHONE_DESC_AMY + COMPANY_DESC_AMY + POSITION_DESC_AMY + IMPORTANCE_DESC_AMY;
+
+        // the delete only succeeds if the add has already been executed
+        logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> deleteResult = logic.executeAsync(DeleteCommand.COMMAND_WORD + " 1");
+
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(new PersonBuilder(AMY).withTags().build())),
+                deleteResult.get(5, TimeUnit.SECONDS).getFeedbackToUser());
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void executeTaskAsync_commandSubmittedDuringTask_waitsForTask() throws Exception {
+        CountDownLatch taskRelease = new CountDownLatch(1);
+        CompletableFuture<Integer> taskResult = logic.executeTaskAsync(() -> {
+            taskRelease.await();
+            model.addPerson(AMY);
+            return model.getFilteredPersonList().size();
+        });
+
+        // the delete only succeeds if it waits for the task to add the person
+        CompletableFuture<CommandResult> deleteResult = logic.executeAsync(DeleteCommand.COMMAND_WORD + " 1");
+        assertFalse(deleteResult.isDone());
+        taskRelease.countDown();
+
+        assertEquals(1, taskResult.get(5, TimeUnit.SECONDS));
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(AMY)),
+                deleteResult.get(5, TimeUnit.SECONDS).getFeedbackToUser());
+    }
+
+    @Test
+    public void executeTaskAsync_taskThrows_completesExceptionally() {
+        CompletableFuture<Object> result = logic.executeTaskAsync(() -> {
+            throw DUMMY_IO_EXCEPTION;
+        });
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    @Test
+    public void loadAddressBookAsync_firstPageLoadedThenLoadFails_nothingSaved() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        AddressBook firstPage = new AddressBook();
+        firstPage.addPerson(AMY);
+        CompletableFuture<Integer> result = logicManager.loadAddressBookAsync(() -> {
+            model.setAddressBook(firstPage);
+            throw new OutOfMemoryError();
+        });
+
+        assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertEquals(new AddressBook(), model.getAddressBook());
+
+        // commands still run, and the first one reports that nothing is saved
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n" + LogicManager.MESSAGE_CHANGES_NOT_SAVED,
+                logicManager.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logicManager.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertTrue(logicManager.execute(ExitCommand.COMMAND_WORD).isExit());
+        assertThrows(IOException.class, LogicManager.MESSAGE_DATA_NOT_LOADED, logicManager::saveAddressBook);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void loadAddressBookAsync_loadSucceeds_savedAgain() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        CompletableFuture<Integer> result = logicManager.loadAddressBookAsync(() -> {
+            model.addPerson(AMY);
+            return 1;
+        });
+
+        assertEquals(1, result.get(5, TimeUnit.SECONDS));
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.MEETING3;
+import static seedu.address.testutil.TypicalAddressBook.MEETING4;
+import static seedu.address.testutil.TypicalAddressBook.MEETING5;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.EditMeetingCommand.EditMeetingDescriptor;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingTime;
+import seedu.address.testutil.MeetingBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ConflictsCommand.
+ */
+public class ConflictsCommandTest {
+
+    @Test
+    public void execute_noConflicts_showsEverything() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.updateFilteredMeetingList(unused -> false);
+        CommandResult result = new ConflictsCommand().execute(model);
+
+        assertEquals(ConflictsCommand.MESSAGE_NO_CONFLICTS, result.getFeedbackToUser());
+        assertEquals(model.getAddressBook().getMeetingList(), model.getFilteredMeetingList());
+    }
+
+    @Test
+    public void execute_overlappingMeetings_showsConflictingMeetingsOnly() {
+        Meeting longMeeting = new MeetingBuilder(MEETING3).withDuration("90").build();
+        Meeting overlappingMeeting = new MeetingBuilder().withMeetingTime("2025-02-13 11:00")
+                .withPersons("Daniel Meier").build();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setMeetings(Arrays.asList(longMeeting, overlappingMeeting, MEETING4, MEETING5));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new ConflictsCommand().execute(model);
+
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_CONFLICTS_FOUND, 1) + "\n"
+                + String.format(ConflictsCommand.MESSAGE_CONFLICT, "2025-02-13 10:00 (90 min)", "2025-02-13 11:00",
+                        "Daniel Meier");
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(Arrays.asList(longMeeting, overlappingMeeting), model.getFilteredMeetingList());
+    }
+
+    @Test
+    public void execute_conflictingMeetingRescheduled_rescheduledMeetingShown() throws Exception {
+        Meeting longMeeting = new MeetingBuilder(MEETING3).withDuration("90").build();
+        Meeting overlappingMeeting = new MeetingBuilder().withMeetingTime("2025-02-13 11:00")
+                .withPersons("Daniel Meier").build();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setMeetings(Arrays.asList(longMeeting, overlappingMeeting, MEETING4, MEETING5));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        new ConflictsCommand().execute(model);
+
+        EditMeetingDescriptor descriptor = new EditMeetingDescriptor();
+        descriptor.setMeetingTime(new MeetingTime("2025-02-13 12:00"));
+        new EditMeetingCommand(Index.fromOneBased(2), descriptor).execute(model);
+
+        Meeting rescheduledMeeting = new MeetingBuilder(overlappingMeeting).withMeetingTime("2025-02-13 12:00").build();
+        assertTrue(model.getFilteredMeetingList().contains(rescheduledMeeting));
+    }
+
+    @Test
+    public void equals() {
+        ConflictsCommand conflictsCommand = new ConflictsCommand();
+        assertTrue(conflictsCommand.equals(conflictsCommand));
+        assertTrue(conflictsCommand.equals(new ConflictsCommand()));
+        assertFalse(conflictsCommand.equals(null));
+        assertFalse(conflictsCommand.equals(new ListMeetingsCommand()));
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalAddressBook.DANIEL;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
@@ -78,6 +79,14 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX_SINGLE);
     }
 
+    @Test
+    public void execute_personWithMeetingHiddenByFilter_throwsCommandException() {
+        Index danielIndex = Index.fromZeroBased(model.getFilteredPersonList().indexOf(DANIEL));
+        model.updateFilteredMeetingList(unused -> false);
+
+        assertCommandFailure(new DeleteCommand(danielIndex), model, DeleteCommand.MESSAGE_PERSON_HAS_MEETING);
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -13,6 +13,8 @@ import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -22,8 +24,12 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.exceptions.InvalidMeetingException;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
+import seedu.address.testutil.MeetingBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for EditCommand.
@@ -105,6 +111,47 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_renameClashesWithMeetingOfNewName_failureAndNothingChanged() {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91111111").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("92222222").build();
+        Meeting meetingWithAlice = new MeetingBuilder().withMeetingTime("2025-03-01 10:00").withPersons("Alice")
+                .withDuration("60").build();
+        Meeting meetingWithBob = new MeetingBuilder().withMeetingTime("2025-03-01 10:30").withPersons("Bob").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        addressBook.addMeeting(meetingWithAlice);
+        addressBook.addMeeting(meetingWithBob);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Index aliceIndex = Index.fromZeroBased(model.getFilteredPersonList().indexOf(alice));
+        EditCommand editCommand = new EditCommand(aliceIndex,
+                new EditPersonDescriptorBuilder().withName("Bob").build());
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_MEETING_NOT_RENAMED,
+                InvalidMeetingException.clashingMeeting("Bob", meetingWithBob).getMessage());
+        assertCommandFailure(editCommand, model, expectedMessage);
+        assertEquals(Arrays.asList(meetingWithAlice), model.getMeetingsWith(alice));
+    }
+
+    @Test
+    public void execute_renamePersonWithMeetings_meetingsRenamed() throws Exception {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91111111").build();
+        Meeting meetingWithAlice = new MeetingBuilder().withMeetingTime("2025-03-01 10:00").withPersons("Alice")
+                .withDuration("60").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addMeeting(meetingWithAlice);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        new EditCommand(INDEX_FIRST_PERSON, new EditPersonDescriptorBuilder().withName("Bob").build()).execute(model);
+
+        Person bob = new PersonBuilder(alice).withName("Bob").build();
+        Meeting meetingWithBob = new MeetingBuilder(meetingWithAlice).withPersons("Bob").build();
+        assertEquals(Arrays.asList(meetingWithBob), model.getMeetingsWith(bob));
+        assertTrue(model.getMeetingsWith(alice).isEmpty());
+    }
+
     @Test
     public void execute_duplicatePersonFilteredList_failure() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
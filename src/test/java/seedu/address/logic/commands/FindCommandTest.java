@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.DANIEL;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integrationn tests (interaction with the Model) for {@code FindCommand}.
@@ -53,6 +58,28 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_nameAndCompanyKeywords_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand("meier", "");
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+
+        command = new FindCommand("Meier", "amaz");
+        expectedModel.updateFilteredPersonList(command.getPredicate());
+        assertCommandSuccess(command, model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(Collections.singletonList(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_matchingPersonEditedAfterFind_editedPersonShown() {
+        new FindCommand("meier", "").execute(model);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        model.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson, DANIEL), model.getFilteredPersonList());
+    }
+
     //    @Test
     //    public void execute_multipleKeywords_multiplePersonsFound() {
     //        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
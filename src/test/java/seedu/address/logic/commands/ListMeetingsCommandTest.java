@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.MEETING4;
+import static seedu.address.testutil.TypicalAddressBook.MEETING5;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingTime;
+import seedu.address.model.meeting.Notes;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ListMeetingsCommand.
+ */
+public class ListMeetingsCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noPeriod_showsEverything() throws Exception {
+        model.updateFilteredMeetingList(unused -> false);
+        CommandResult result = new ListMeetingsCommand().execute(model);
+
+        assertEquals(ListMeetingsCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(model.getAddressBook().getMeetingList(), model.getFilteredMeetingList());
+    }
+
+    @Test
+    public void execute_period_showsMeetingsInPeriodOnly() throws Exception {
+        MeetingTime from = new MeetingTime("2025-08-01 00:00");
+        MeetingTime to = new MeetingTime(MEETING5.getDateTime().toString());
+        CommandResult result = new ListMeetingsCommand(from, to).execute(model);
+
+        assertEquals(String.format(ListMeetingsCommand.MESSAGE_MEETINGS_IN_PERIOD, 2,
+                "from " + from + " to " + to), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(MEETING4, MEETING5), model.getFilteredMeetingList());
+    }
+
+    @Test
+    public void execute_openEndedPeriod_showsMeetingsOnOneSide() throws Exception {
+        new ListMeetingsCommand(null, new MeetingTime("2025-08-01 00:00")).execute(model);
+        assertEquals(1, model.getFilteredMeetingList().size());
+
+        new ListMeetingsCommand(new MeetingTime("2025-08-25 00:00"), null).execute(model);
+        assertEquals(Arrays.asList(MEETING5), model.getFilteredMeetingList());
+    }
+
+    @Test
+    public void execute_meetingEditedAfterListing_stillShown() throws Exception {
+        MeetingTime from = new MeetingTime("2025-08-01 00:00");
+        new ListMeetingsCommand(from, null).execute(model);
+
+        Meeting editedMeeting = new Meeting(MEETING5.getDateTime(), MEETING5.getPersonList(), new Notes("Moved"));
+        model.setMeeting(MEETING5, editedMeeting);
+        assertEquals(Arrays.asList(MEETING4, editedMeeting), model.getFilteredMeetingList());
+    }
+
+    @Test
+    public void equals() {
+        MeetingTime from = new MeetingTime("2025-08-01 00:00");
+        ListMeetingsCommand listFromCommand = new ListMeetingsCommand(from, null);
+
+        // same object -> returns true
+        assertTrue(listFromCommand.equals(listFromCommand));
+
+        // same values -> returns true
+        assertTrue(listFromCommand.equals(new ListMeetingsCommand(new MeetingTime("2025-08-01 00:00"), null)));
+
+        // different types -> returns false
+        assertFalse(listFromCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(listFromCommand.equals(null));
+
+        // different period -> returns false
+        assertFalse(listFromCommand.equals(new ListMeetingsCommand(null, from)));
+        assertFalse(listFromCommand.equals(new ListMeetingsCommand()));
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for StatsCommand.
+ */
+public class StatsCommandTest {
+
+    @Test
+    public void execute_metricsDisabled_showsDisabledMessage() {
+        Model model = new ModelManager();
+        assertCommandSuccess(new StatsCommand(new CommandMetrics(false)), model, CommandMetrics.MESSAGE_DISABLED,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_commandsRecorded_showsSummary() {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        commandMetrics.record("list", 1, 2, 3);
+        Model model = new ModelManager();
+        assertCommandSuccess(new StatsCommand(commandMetrics), model, commandMetrics.getSummary(), new ModelManager());
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        StatsCommand statsCommand = new StatsCommand(commandMetrics);
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(commandMetrics)));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics(true))));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new ListCommand()));
+    }
+}
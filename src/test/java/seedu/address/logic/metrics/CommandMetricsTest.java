@@ -0,0 +1,72 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void record_disabled_recordsNothing() {
+        CommandMetrics commandMetrics = new CommandMetrics(false);
+        commandMetrics.record("list", 1, 2, 3);
+
+        assertFalse(commandMetrics.isEnabled());
+        assertFalse(commandMetrics.getLatencies("list", Phase.PARSE).isPresent());
+        assertEquals(CommandMetrics.MESSAGE_DISABLED, commandMetrics.getSummary());
+    }
+
+    @Test
+    public void record_enabled_recordsEachPhase() {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        commandMetrics.record("list", 1, 2, 3);
+        commandMetrics.record("list", 1, 2, 3);
+
+        assertEquals(2, commandMetrics.getLatencies("list", Phase.PARSE).get().getCount());
+        assertEquals(1, commandMetrics.getLatencies("list", Phase.PARSE).get().getMaxNanos());
+        assertEquals(2, commandMetrics.getLatencies("list", Phase.EXECUTE).get().getMaxNanos());
+        assertEquals(3, commandMetrics.getLatencies("list", Phase.SAVE).get().getMaxNanos());
+        assertFalse(commandMetrics.getLatencies("add", Phase.PARSE).isPresent());
+    }
+
+    @Test
+    public void getSummary_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, new CommandMetrics(true).getSummary());
+    }
+
+    @Test
+    public void getSummary_commandsRecorded_oneLinePerCommandInOrder() {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        commandMetrics.record("list", 0, 2_000_000, 0);
+        commandMetrics.record("add", 1_000_000, 0, 0);
+
+        String expectedSummary = CommandMetrics.MESSAGE_HEADER
+                + "\nadd x1: parse 1.000 / 1.000 / 1.000, execute 0.000 / 0.000 / 0.000, save 0.000 / 0.000 / 0.000"
+                + "\nlist x1: parse 0.000 / 0.000 / 0.000, execute 2.000 / 2.000 / 2.000, save 0.000 / 0.000 / 0.000";
+        assertEquals(expectedSummary, commandMetrics.getSummary());
+    }
+
+    @Test
+    public void record_concurrently_countsEveryCommand() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    commandMetrics.record("list", j, j, j);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, commandMetrics.getLatencies("list", Phase.EXECUTE).get().getCount());
+        assertTrue(commandMetrics.getSummary().startsWith(CommandMetrics.MESSAGE_HEADER));
+    }
+}
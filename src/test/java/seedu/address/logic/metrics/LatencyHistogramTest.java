@@ -0,0 +1,73 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getBucket_valueWithinUpperBound() {
+        long[] values = {0, 1, 15, 16, 17, 18, 31, 32, 1000, 999_999, 123_456_789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.getBucket(value);
+            assertTrue(value <= LatencyHistogram.getBucketUpperBound(bucket));
+            assertTrue(bucket == 0 || value > LatencyHistogram.getBucketUpperBound(bucket - 1));
+        }
+    }
+
+    @Test
+    public void getBucketUpperBound_consecutiveBuckets_increasing() {
+        int lastBucket = LatencyHistogram.getBucket(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.getBucketUpperBound(lastBucket));
+        for (int i = 1; i <= lastBucket; i++) {
+            assertTrue(LatencyHistogram.getBucketUpperBound(i - 1) < LatencyHistogram.getBucketUpperBound(i));
+            assertEquals(i, LatencyHistogram.getBucket(LatencyHistogram.getBucketUpperBound(i)));
+        }
+    }
+
+    @Test
+    public void getPercentileNanos_noValues_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(100.5));
+    }
+
+    @Test
+    public void getPercentileNanos_manyValues_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        assertEquals(500_500, histogram.getMeanNanos());
+        assertWithinRelativeError(500_000, histogram.getPercentileNanos(50));
+        assertWithinRelativeError(990_000, histogram.getPercentileNanos(99));
+        assertEquals(1_000_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void record_negativeValue_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(100));
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125,
+                "Expected about " + expected + " but was " + actual);
+    }
+}
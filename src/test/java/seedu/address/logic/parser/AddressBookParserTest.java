@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
@@ -23,7 +24,11 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListMeetingsCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meeting.MeetingTime;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -83,12 +88,31 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_meetings() throws Exception {
+        assertEquals(new ListMeetingsCommand(), parser.parseCommand(ListMeetingsCommand.COMMAND_WORD));
+        assertEquals(new ListMeetingsCommand(new MeetingTime("2025-03-01 00:00"), null),
+                parser.parseCommand(ListMeetingsCommand.COMMAND_WORD + " from/2025-03-01 00:00"));
+    }
+
+    @Test
+    public void parseCommand_conflicts() throws Exception {
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD) instanceof ConflictsCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics(true);
+        assertEquals(new StatsCommand(commandMetrics),
+                new AddressBookParser(commandMetrics).parseCommand(StatsCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
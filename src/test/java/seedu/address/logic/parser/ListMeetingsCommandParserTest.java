@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ListMeetingsCommand;
+import seedu.address.model.meeting.MeetingTime;
+
+public class ListMeetingsCommandParserTest {
+
+    private static final String FROM = "2025-03-01 00:00";
+    private static final String TO = "2025-03-31 23:59";
+
+    private ListMeetingsCommandParser parser = new ListMeetingsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListAllMeetingsCommand() {
+        assertParseSuccess(parser, "  ", new ListMeetingsCommand());
+    }
+
+    @Test
+    public void parse_validPeriod_returnsListMeetingsCommand() {
+        assertParseSuccess(parser, " from/" + FROM + " to/" + TO,
+                new ListMeetingsCommand(new MeetingTime(FROM), new MeetingTime(TO)));
+        assertParseSuccess(parser, " to/" + TO + " from/" + FROM,
+                new ListMeetingsCommand(new MeetingTime(FROM), new MeetingTime(TO)));
+
+        // one side unbounded
+        assertParseSuccess(parser, " from/" + FROM, new ListMeetingsCommand(new MeetingTime(FROM), null));
+        assertParseSuccess(parser, " to/" + TO, new ListMeetingsCommand(null, new MeetingTime(TO)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // non-empty preamble
+        assertParseFailure(parser, " 3 from/" + FROM,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListMeetingsCommand.MESSAGE_USAGE));
+
+        // from after to
+        assertParseFailure(parser, " from/" + TO + " to/" + FROM, ListMeetingsCommandParser.MESSAGE_INVALID_PERIOD);
+
+        // duplicate prefix
+        assertParseFailure(parser, " from/" + FROM + " from/" + FROM,
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FROM));
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -188,4 +189,16 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseMeetingDuration_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseMeetingDuration("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseMeetingDuration("1441"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseMeetingDuration("half an hour"));
+    }
+
+    @Test
+    public void parseMeetingDuration_validValueWithWhitespace_returnsTrimmedDuration() throws Exception {
+        assertEquals(new MeetingDuration("45"), ParserUtil.parseMeetingDuration(WHITESPACE + "45" + WHITESPACE));
+    }
 }
@@ -2,13 +2,20 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_COMPANY_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.DANIEL;
+import static seedu.address.testutil.TypicalAddressBook.GEORGE;
+import static seedu.address.testutil.TypicalAddressBook.MEETING3;
+import static seedu.address.testutil.TypicalAddressBook.MEETING4;
+import static seedu.address.testutil.TypicalAddressBook.MEETING5;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -19,8 +26,11 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingConflict;
+import seedu.address.model.meeting.exceptions.InvalidMeetingException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.MeetingBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -92,6 +102,134 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    @Test
+    public void getVersion_mutation_versionChanges() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertNotEquals(initialVersion, addressBook.getVersion());
+
+        long versionAfterAdd = addressBook.getVersion();
+        addressBook.removePerson(ALICE);
+        assertNotEquals(versionAfterAdd, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_readOnlyOperations_versionUnchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        addressBook.getMeetingList();
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getMeetingsWith_meetingsAddedAndRemoved_tracksParticipants() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertEquals(Arrays.asList(MEETING3), typicalAddressBook.getMeetingsWith(DANIEL));
+        assertEquals(Arrays.asList(MEETING3, MEETING4), typicalAddressBook.getMeetingsWith(GEORGE));
+        assertTrue(typicalAddressBook.getMeetingsWith(ALICE).isEmpty());
+
+        typicalAddressBook.removeMeeting(MEETING3);
+        assertTrue(typicalAddressBook.getMeetingsWith(DANIEL).isEmpty());
+        assertEquals(Arrays.asList(MEETING4), typicalAddressBook.getMeetingsWith(GEORGE));
+
+        Meeting meetingWithAlice = new MeetingBuilder(MEETING4).withPersons("Alice Pauline").build();
+        typicalAddressBook.setMeeting(MEETING4, meetingWithAlice);
+        assertTrue(typicalAddressBook.getMeetingsWith(GEORGE).isEmpty());
+        assertEquals(Arrays.asList(meetingWithAlice), typicalAddressBook.getMeetingsWith(ALICE));
+    }
+
+    @Test
+    public void getMeetingsBetween_inclusiveBounds_returnsMeetingsInTimeOrder() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        LocalDateTime meeting4Time = MEETING4.getDateTime().meetingTime;
+        LocalDateTime meeting5Time = MEETING5.getDateTime().meetingTime;
+
+        assertEquals(Arrays.asList(MEETING4, MEETING5),
+                typicalAddressBook.getMeetingsBetween(meeting4Time, meeting5Time));
+        assertEquals(Arrays.asList(MEETING3, MEETING4, MEETING5),
+                typicalAddressBook.getMeetingsBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertTrue(typicalAddressBook.getMeetingsBetween(meeting5Time, meeting4Time).isEmpty());
+    }
+
+    @Test
+    public void getUpcomingMeetings_limitedCount_returnsEarliestMeetings() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        LocalDateTime afterMeeting3 = MEETING3.getDateTime().meetingTime.plusMinutes(1);
+
+        assertEquals(Arrays.asList(MEETING4), typicalAddressBook.getUpcomingMeetings(afterMeeting3, 1));
+        assertEquals(Arrays.asList(MEETING4, MEETING5), typicalAddressBook.getUpcomingMeetings(afterMeeting3, 5));
+        assertTrue(typicalAddressBook.getUpcomingMeetings(LocalDateTime.MAX, 5).isEmpty());
+    }
+
+    @Test
+    public void addMeeting_unknownParticipant_throwsInvalidMeetingException() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Meeting meeting = new MeetingBuilder().withPersons("Alice Pauline", "Nobody").build();
+
+        String expectedMessage = InvalidMeetingException.unknownParticipant("Nobody").getMessage();
+        assertThrows(InvalidMeetingException.class, expectedMessage, () -> typicalAddressBook.addMeeting(meeting));
+    }
+
+    @Test
+    public void addMeeting_participantHasMeetingAtSameTime_throwsInvalidMeetingException() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Meeting clashingMeeting = new MeetingBuilder(MEETING4).withPersons("George Best", "Alice Pauline").build();
+
+        String expectedMessage = InvalidMeetingException.clashingMeeting("George Best", MEETING4).getMessage();
+        assertThrows(InvalidMeetingException.class, expectedMessage, () ->
+                typicalAddressBook.addMeeting(clashingMeeting));
+    }
+
+    @Test
+    public void addMeeting_participantHasOverlappingMeeting_throwsInvalidMeetingException() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Meeting longMeeting = new MeetingBuilder(MEETING4).withDuration("60").build();
+        typicalAddressBook.setMeeting(MEETING4, longMeeting);
+        Meeting overlappingMeeting = new MeetingBuilder().withMeetingTime("2025-08-21 09:59")
+                .withPersons("Fiona Kunz").build();
+
+        String expectedMessage = InvalidMeetingException.clashingMeeting("Fiona Kunz", longMeeting).getMessage();
+        assertThrows(InvalidMeetingException.class, expectedMessage, () ->
+                typicalAddressBook.addMeeting(overlappingMeeting));
+    }
+
+    @Test
+    public void addMeeting_startsWhenOtherMeetingEnds_success() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Meeting longMeeting = new MeetingBuilder(MEETING4).withDuration("60").build();
+        typicalAddressBook.setMeeting(MEETING4, longMeeting);
+        Meeting nextMeeting = new MeetingBuilder().withMeetingTime("2025-08-21 10:00")
+                .withPersons("Fiona Kunz").withDuration("30").build();
+
+        typicalAddressBook.addMeeting(nextMeeting);
+        assertEquals(Arrays.asList(longMeeting, nextMeeting, MEETING5),
+                typicalAddressBook.getMeetingsWith(new PersonBuilder().withName("Fiona Kunz").build()));
+    }
+
+    @Test
+    public void findMeetingConflicts_overlappingMeetingsLoaded_returnsConflicts() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Meeting longMeeting = new MeetingBuilder(MEETING3).withDuration("120").build();
+        Meeting overlappingMeeting = new MeetingBuilder().withMeetingTime("2025-02-13 11:00")
+                .withPersons("George Best", "Alice Pauline").build();
+
+        assertEquals(Collections.emptyList(), typicalAddressBook.findMeetingConflicts());
+        typicalAddressBook.setMeetings(Arrays.asList(longMeeting, overlappingMeeting, MEETING4, MEETING5));
+        assertEquals(Collections.singletonList(new MeetingConflict(longMeeting, overlappingMeeting,
+                Collections.singleton("George Best"))), typicalAddressBook.findMeetingConflicts());
+    }
+
+    @Test
+    public void setMeeting_onlyNotesChanged_success() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Meeting editedMeeting = new MeetingBuilder(MEETING4).withNotes("Moved to the main office").build();
+
+        typicalAddressBook.setMeeting(MEETING4, editedMeeting);
+        assertEquals(editedMeeting.getNotes(), typicalAddressBook.getMeetingsWith(GEORGE).get(1).getNotes());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -111,6 +249,11 @@ public class AddressBookTest {
         public ObservableList<Meeting> getMeetingList() {
             return null;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,100 @@
+package seedu.address.model.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.MeetingBuilder;
+
+public class MeetingIntervalTreeTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final MeetingIntervalTree tree = new MeetingIntervalTree();
+
+    @Test
+    public void findOverlapping_instantsAndPeriods_usesHalfOpenPeriods() {
+        Meeting nineToTen = createMeeting(9 * 60, 60);
+        Meeting tenOClock = createMeeting(10 * 60, 0);
+        Meeting nineThirty = createMeeting(9 * 60 + 30, 0);
+        tree.add(nineToTen);
+        tree.add(tenOClock);
+        tree.add(nineThirty);
+
+        // a meeting that ends at ten is over by the time the ten o'clock meeting starts
+        assertEquals(Collections.singletonList(tenOClock), tree.findOverlapping(createMeeting(10 * 60, 0)));
+        assertEquals(Arrays.asList(nineToTen, nineThirty), tree.findOverlapping(createMeeting(9 * 60 + 30, 0)));
+        assertEquals(Collections.singletonList(nineToTen), tree.findOverlapping(createMeeting(9 * 60, 0)));
+        assertEquals(Collections.emptyList(), tree.findOverlapping(createMeeting(8 * 60, 60)));
+    }
+
+    @Test
+    public void remove_equalMeetings_removesExactInstanceOnly() {
+        Meeting meeting = createMeeting(60, 30);
+        Meeting equalMeeting = new MeetingBuilder(meeting).withNotes("Different notes").build();
+        tree.add(meeting);
+        tree.add(equalMeeting);
+
+        assertTrue(tree.remove(meeting));
+        assertFalse(tree.remove(meeting));
+        assertEquals(Collections.singletonList(equalMeeting), tree.toList());
+        assertTrue(tree.remove(equalMeeting));
+        assertTrue(tree.isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_randomMeetings_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<Meeting> held = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!held.isEmpty() && random.nextInt(4) == 0) {
+                Meeting removed = held.remove(random.nextInt(held.size()));
+                assertTrue(tree.remove(removed));
+            } else {
+                Meeting added = createMeeting(random.nextInt(5000), random.nextInt(3) == 0 ? 0 : random.nextInt(300));
+                held.add(added);
+                tree.add(added);
+            }
+
+            Meeting query = createMeeting(random.nextInt(5000), random.nextInt(300));
+            List<Meeting> expected = held.stream().filter(query::overlaps).collect(Collectors.toList());
+            List<Meeting> actual = tree.findOverlapping(query);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+            assertEquals(sortedByStart(actual), actual);
+        }
+        assertEquals(held.size(), tree.toList().size());
+    }
+
+    private static List<Meeting> sortedByStart(List<Meeting> meetings) {
+        List<Meeting> sorted = new ArrayList<>(meetings);
+        sorted.sort(Comparator.comparing(meeting -> meeting.getDateTime().meetingTime));
+        return sorted;
+    }
+
+    /**
+     * Creates a meeting starting {@code startMinute} minutes after {@code BASE_TIME}, lasting {@code minutes}
+     * minutes, or without a duration if {@code minutes} is 0.
+     */
+    private static Meeting createMeeting(int startMinute, int minutes) {
+        MeetingBuilder builder = new MeetingBuilder()
+                .withMeetingTime(BASE_TIME.plusMinutes(startMinute).format(FORMATTER));
+        if (minutes > 0) {
+            builder.withDuration(String.valueOf(minutes));
+        }
+        return builder.build();
+    }
+}
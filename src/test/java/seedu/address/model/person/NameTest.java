@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -56,5 +57,13 @@ public class NameTest {
 
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
+
+        // different case -> returns true
+        assertTrue(name.equals(new Name("VALID name")));
+    }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertEquals(new Name("Valid Name").hashCode(), new Name("VALID name").hashCode());
     }
 }
@@ -12,9 +12,12 @@ import static seedu.address.testutil.TypicalAddressBook.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.UniquePersonList.DuplicatePair;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +50,43 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentlyCasedNameInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedBySetPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void containsName_personsAddedAndRemoved_tracksExactNames() {
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone("12345678").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceWithOtherPhone);
+        assertTrue(uniquePersonList.containsName(ALICE.getName().fullName));
+        assertFalse(uniquePersonList.containsName(ALICE.getName().fullName.toUpperCase()));
+
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.containsName(ALICE.getName().fullName));
+        uniquePersonList.setPerson(aliceWithOtherPhone, BOB);
+        assertFalse(uniquePersonList.containsName(ALICE.getName().fullName));
+        assertTrue(uniquePersonList.containsName(BOB.getName().fullName));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -162,6 +202,106 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findDuplicates_listWithDuplicatePersons_returnsEveryDuplicate() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, upperCaseAlice, BOB);
+
+        List<DuplicatePair> expectedDuplicates = Arrays.asList(new DuplicatePair(ALICE, upperCaseAlice),
+                new DuplicatePair(BOB, BOB));
+        assertEquals(expectedDuplicates, UniquePersonList.findDuplicates(listWithDuplicatePersons));
+
+        // every duplicate is reported by setPersons, which leaves the list unchanged
+        String expectedMessage = new DuplicatePersonException(expectedDuplicates).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void findDuplicates_uniquePersons_returnsEmptyList() {
+        assertTrue(UniquePersonList.findDuplicates(Arrays.asList(ALICE, BOB)).isEmpty());
+    }
+
+    @Test
+    public void getIndexedPredicate_listModifiedWhileFiltering_viewKeptUpToDate() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        FilteredList<Person> view = new FilteredList<>(uniquePersonList.asUnmodifiableObservableList(),
+                uniquePersonList.getIndexedPredicate(new PersonContainsKeywordsPredicate("PAULINE", "")));
+        assertEquals(Collections.singletonList(ALICE), view);
+
+        uniquePersonList.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        assertTrue(view.isEmpty());
+
+        Person editedBob = new PersonBuilder(BOB).withName("Bob Pauline").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        Person pauline = new PersonBuilder().withName("Pauline Lee").withPhone("81234567").build();
+        uniquePersonList.add(pauline);
+        assertEquals(Arrays.asList(editedBob, pauline), view);
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertEquals(Collections.singletonList(ALICE), view);
+        uniquePersonList.remove(ALICE);
+        assertTrue(view.isEmpty());
+    }
+
+    @Test
+    public void getIndexedPredicate_shortKeywordsAndCompany_sameAsPredicate() {
+        Person aliceAtBob = new PersonBuilder(ALICE).withName("Bob Alice").withPhone("81234567")
+                .withCompany(VALID_COMPANY_BOB).build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, aliceAtBob));
+
+        List<PersonContainsKeywordsPredicate> predicates = Arrays.asList(
+                new PersonContainsKeywordsPredicate("b", ""),
+                new PersonContainsKeywordsPredicate("al", VALID_COMPANY_BOB.substring(0, 2)),
+                new PersonContainsKeywordsPredicate("Alice", VALID_COMPANY_BOB),
+                new PersonContainsKeywordsPredicate("o", VALID_COMPANY_BOB.toLowerCase()),
+                new PersonContainsKeywordsPredicate("Charlie", ""));
+        for (PersonContainsKeywordsPredicate predicate : predicates) {
+            Predicate<Person> indexedPredicate = uniquePersonList.getIndexedPredicate(predicate);
+            uniquePersonList.forEach(person -> assertEquals(predicate.test(person), indexedPredicate.test(person)));
+        }
+    }
+
+    @Test
+    public void getIndexedPredicateTags_listModifiedAfterSearch_sameAsPredicate() {
+        Person carl = new PersonBuilder().withName("Carl").withPhone("81234567").withTags("Friends", "colleagues")
+                .build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        PersonTagsContainsSearchPredicate friendPredicate = new PersonTagsContainsSearchPredicate("FRIEND");
+        Predicate<Person> indexedFriendPredicate = uniquePersonList.getIndexedPredicate(friendPredicate);
+        assertMatchesPredicate(friendPredicate, indexedFriendPredicate);
+
+        // the slot freed by Alice is reused by Dave, without mixing up their tags
+        uniquePersonList.remove(ALICE);
+        Person dave = new PersonBuilder().withName("Dave").withPhone("87654321").withTags("colleagues").build();
+        uniquePersonList.add(dave);
+        uniquePersonList.setPerson(BOB, new PersonBuilder(BOB).withTags("friend").build());
+        assertMatchesPredicate(friendPredicate, indexedFriendPredicate);
+        PersonTagsContainsSearchPredicate colleaguePredicate = new PersonTagsContainsSearchPredicate("colleague");
+        assertMatchesPredicate(colleaguePredicate, uniquePersonList.getIndexedPredicate(colleaguePredicate));
+        PersonTagsContainsSearchPredicate enemyPredicate = new PersonTagsContainsSearchPredicate("enemies");
+        assertMatchesPredicate(enemyPredicate, uniquePersonList.getIndexedPredicate(enemyPredicate));
+    }
+
+    @Test
+    public void getIndexedPredicateTags_tagAddedWhileFiltering_viewKeptUpToDate() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        FilteredList<Person> view = new FilteredList<>(uniquePersonList.asUnmodifiableObservableList(),
+                uniquePersonList.getIndexedPredicate(new PersonTagsContainsSearchPredicate("mentor")));
+        assertTrue(view.isEmpty());
+
+        Person editedBob = new PersonBuilder(BOB).withTags("Mentors").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(Collections.singletonList(editedBob), view);
+    }
+
+    private void assertMatchesPredicate(PersonTagsContainsSearchPredicate predicate,
+            Predicate<Person> indexedPredicate) {
+        uniquePersonList.forEach(person -> assertEquals(predicate.test(person), indexedPredicate.test(person)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
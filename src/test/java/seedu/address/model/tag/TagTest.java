@@ -1,5 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -23,4 +26,13 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_equalTagNames_returnsSameInstance() {
+        Tag tag = Tag.of("colleagues");
+        assertSame(tag, Tag.of(new String("colleagues")));
+        assertEquals(new Tag("colleagues"), tag);
+        assertNotSame(tag, Tag.of("Colleagues"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
 }
@@ -0,0 +1,57 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("Google");
+        String second = new String("Google");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(first, interner.intern(first));
+        assertEquals(1, interner.size());
+
+        String other = new String("Apple");
+        assertSame(other, interner.intern(other));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_equalValuesFromManyThreads_returnsOneInstance() throws Exception {
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount * 100; i++) {
+                results.add(executor.submit(() -> interner.intern(new String("Google"))));
+            }
+            String canonicalValue = results.get(0).get();
+            for (Future<String> result : results) {
+                assertSame(canonicalValue, result.get());
+            }
+            assertEquals(1, interner.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.ui.ListMirror;
+
+public class LazySortedListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("b", "c", "a");
+    private final LazySortedList<String> sortedList = new LazySortedList<>(source);
+    // a mirror only sees the changes fired, so it only matches if those changes are right
+    private final ObservableList<String> mirror =
+            new ListMirror<>(sortedList, Runnable::run).asUnmodifiableObservableList();
+
+    @Test
+    public void sourceChanged_noComparator_sameAsSource() {
+        source.add("d");
+        source.remove("c");
+        source.set(0, "e");
+
+        assertEquals(source, sortedList);
+        assertEquals(source, mirror);
+        assertEquals(1, sortedList.getSourceIndex(1));
+    }
+
+    @Test
+    public void setComparator_thenSourceChanged_sorted() {
+        sortedList.setComparator(Comparator.naturalOrder());
+        assertEquals(Arrays.asList("a", "b", "c"), sortedList);
+        assertEquals(sortedList, mirror);
+
+        source.addAll("d", "0");
+        source.remove("b");
+        assertEquals(Arrays.asList("0", "a", "c", "d"), sortedList);
+        assertEquals(sortedList, mirror);
+        assertEquals(source.indexOf("0"), sortedList.getSourceIndex(0));
+    }
+
+    @Test
+    public void setComparator_null_orderOfSourceRestored() {
+        sortedList.setComparator(Comparator.reverseOrder());
+        assertEquals(Arrays.asList("c", "b", "a"), mirror);
+
+        sortedList.setComparator(null);
+        source.add("d");
+        assertEquals(source, sortedList);
+        assertEquals(source, mirror);
+    }
+}
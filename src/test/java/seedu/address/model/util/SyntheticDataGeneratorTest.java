@@ -0,0 +1,95 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void withPersons_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1).withPersons(-1));
+    }
+
+    @Test
+    public void withTagsPerPerson_moreThanAvailable_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1).withTagsPerPerson(21));
+    }
+
+    @Test
+    public void getPerson_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new SyntheticDataGenerator(1).withPersons(5).getPerson(5));
+    }
+
+    @Test
+    public void getMeeting_fewerPersonsThanParticipants_throwsIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1).withPersons(2).withParticipantsPerMeeting(3);
+        assertThrows(IllegalArgumentException.class, () -> generator.getMeeting(0));
+    }
+
+    @Test
+    public void getPersons_sameSeed_sameData() {
+        assertEquals(toList(new SyntheticDataGenerator(7).getPersons()),
+                toList(new SyntheticDataGenerator(7).getPersons()));
+        assertEquals(toList(new SyntheticDataGenerator(7).getMeetings()),
+                toList(new SyntheticDataGenerator(7).getMeetings()));
+    }
+
+    @Test
+    public void getPersons_differentSeed_differentData() {
+        assertNotEquals(toList(new SyntheticDataGenerator(7).getPersons()),
+                toList(new SyntheticDataGenerator(8).getPersons()));
+    }
+
+    @Test
+    public void getPerson_matchesIteratedPerson() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7).withPersons(50);
+        assertEquals(toList(generator.getPersons()).get(42), generator.getPerson(42));
+    }
+
+    @Test
+    public void getPersons_configured_personsHaveRequestedShape() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7)
+                .withPersons(5000).withTagsPerPerson(3).withCompanies(25);
+        Set<String> names = new HashSet<>();
+        Set<String> companies = new HashSet<>();
+        for (Person person : generator.getPersons()) {
+            names.add(person.getName().fullName);
+            companies.add(person.getCompany().value);
+            assertEquals(3, person.getTags().size());
+        }
+        assertEquals(5000, names.size());
+        assertTrue(companies.size() <= 25);
+    }
+
+    @Test
+    public void generateAddressBook_configured_validAddressBook() {
+        AddressBook addressBook = new SyntheticDataGenerator(7)
+                .withPersons(2000).withMeetings(500).withParticipantsPerMeeting(4).generateAddressBook();
+
+        // adding every meeting checks that its participants exist and that it overlaps no other meeting
+        assertEquals(2000, addressBook.getPersonList().size());
+        assertEquals(500, addressBook.getMeetingList().size());
+        for (Meeting meeting : addressBook.getMeetingList()) {
+            assertEquals(4, meeting.getPersonList().size());
+        }
+    }
+
+    private static <T> List<T> toList(Iterable<T> iterable) {
+        List<T> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list;
+    }
+}
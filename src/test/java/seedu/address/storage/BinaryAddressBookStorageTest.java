@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_generatedAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new SyntheticDataGenerator(7).withPersons(500).withMeetings(50).generateAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void read_directBuffer_success() throws Exception {
+        // a buffer without a backing array is decoded the same way as a memory mapping of the file
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookWriter.write(filePath, original, false);
+        byte[] data = Files.readAllBytes(filePath);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length).put(data).flip();
+
+        assertEquals(original, BinaryAddressBookReader.read(buffer));
+        assertEquals(original, BinaryAddressBookReader.read(filePath, false));
+    }
+
+    @Test
+    public void readFirstPersons_savedAddressBook_firstPersonsOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        AddressBook expected = new AddressBook();
+        expected.setPersons(original.getPersonList().subList(0, 2));
+        assertEquals(expected, storage.readFirstPersons(2).get());
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readFirstPersons(2).isPresent());
+    }
+
+    @Test
+    public void isBinaryFile_jsonFile_returnsFalse() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(testFolder.resolve("NonExistentFile.bin")));
+    }
+
+    @Test
+    public void read_corruptedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookWriter.write(filePath, getTypicalAddressBook(), false);
+        byte[] data = Files.readAllBytes(filePath);
+        data[data.length / 2] ^= 1;
+        Files.write(filePath, data);
+
+        assertThrows(IOException.class, () -> BinaryAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookWriter.write(filePath, getTypicalAddressBook(), false);
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length / 2));
+
+        assertThrows(IOException.class, () -> BinaryAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+
+        // the next save converts the file
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_binaryFileThroughJsonStorage_readAsBinary() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void of_storageFormat_returnsStorageOfFormat() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertTrue(FileAddressBookStorage.of(userPrefs) instanceof JsonAddressBookStorage);
+        userPrefs.setAddressBookStorageFormat(StorageFormat.BINARY);
+        assertTrue(FileAddressBookStorage.of(userPrefs) instanceof BinaryAddressBookStorage);
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.ELLE;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.IDA;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_mutationsAfterFirstSave_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ELLE);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withCompany("Shopee").build());
+        storage.saveAddressBook(original);
+
+        // snapshot is untouched, the journal holds the header and three entries
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_resetData_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.resetData(new AddressBook());
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // snapshot rewritten by someone else, so the journal no longer applies to it
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(BENSON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_dropped() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"op\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_entryOutOfSync_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.removePerson(ELLE);
+        storage.saveAddressBook(original);
+        original.addPerson(ELLE);
+        storage.saveAddressBook(original);
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        String removeEntry = Files.readAllLines(journalFilePath).get(1);
+        Files.write(journalFilePath, (removeEntry + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.MEETING3;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.MeetingBuilder;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookReader.read(null));
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(NOT_JSON_FILE));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        FileUtil.writeToFile(filePath, "[]");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_meetingsBeforePersonsAndUnknownFields_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Map<?, ?> fields = JsonUtil.fromJsonString(
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), LinkedHashMap.class);
+        Map<String, Object> reorderedFields = new LinkedHashMap<>();
+        reorderedFields.put("meetings", fields.get("meetings"));
+        reorderedFields.put("version", Map.of("major", 2, "tags", List.of("a", "b")));
+        reorderedFields.put("persons", fields.get("persons"));
+        Path filePath = testFolder.resolve("addressbook.json");
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(reorderedFields));
+
+        assertEquals(original, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_moreRecordsThanOneBatch_success() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7)
+                .withPersons(JsonAddressBookReader.CONVERSION_BATCH_SIZE + 1)
+                .withMeetings(JsonAddressBookReader.CONVERSION_BATCH_SIZE + 1);
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookWriter.write(filePath, generator.getPersons(), generator.getMeetings(), false);
+
+        assertEquals(generator.generateAddressBook(), JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_overlappingMeetings_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Meeting longMeeting = new MeetingBuilder(MEETING3).withDuration("90").build();
+        Meeting overlappingMeeting = new MeetingBuilder().withMeetingTime("2025-02-13 11:00")
+                .withPersons("Daniel Meier").build();
+        original.setMeetings(List.of(longMeeting, overlappingMeeting));
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookWriter.write(filePath, original.getPersonList(), original.getMeetingList(), false);
+
+        AddressBook read = JsonAddressBookReader.read(filePath);
+        assertEquals(original, read);
+        assertEquals(1, read.findMeetingConflicts().size());
+    }
+
+    @Test
+    public void read_duplicateMeetings_throwsIllegalValueException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookWriter.write(filePath, original.getPersonList(), List.of(MEETING3, MEETING3), false);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_MEETING, () ->
+                JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_missingLists_emptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        FileUtil.writeToFile(filePath, "{ \"persons\": null }");
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void readFirstPersons_typicalPersonsFile_firstPersonsOnly() throws Exception {
+        AddressBook expected = new AddressBook();
+        expected.setPersons(getTypicalAddressBook().getPersonList().subList(0, 2));
+        assertEquals(expected, JsonAddressBookReader.readFirstPersons(TYPICAL_PERSONS_FILE, 2));
+    }
+
+    @Test
+    public void readFirstPersons_countAboveSize_allPersons() throws Exception {
+        AddressBook expected = new AddressBook();
+        expected.setPersons(getTypicalAddressBook().getPersonList());
+        assertEquals(expected, JsonAddressBookReader.readFirstPersons(TYPICAL_PERSONS_FILE, Integer.MAX_VALUE));
+    }
+}
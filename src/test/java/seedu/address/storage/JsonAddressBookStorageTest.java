@@ -9,12 +9,16 @@ import static seedu.address.testutil.TypicalAddressBook.IDA;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DurabilityPolicy;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -86,6 +90,79 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_notPrettyPrinted_singleLineReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_overwrite_keepsPreviousVersionAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true,
+                DurabilityPolicy.EVERY_SAVE, Duration.ZERO);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(filePath)));
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(modified);
+
+        assertFalse(Files.exists(JsonAddressBookStorage.getTempFilePath(filePath)));
+        assertEquals(modified, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(
+                jsonAddressBookStorage.readAddressBook(JsonAddressBookStorage.getBackupFilePath(filePath)).get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidDataFile_recoversFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true,
+                DurabilityPolicy.NEVER, Duration.ZERO);
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // as if the system crashed before the new data file reached the disk
+        Files.write(filePath, new byte[0]);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_newerTempFile_recoversFromTempFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // as if the system crashed after writing the temporary file, but before moving it into place
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        Path tempFilePath = JsonAddressBookStorage.getTempFilePath(filePath);
+        JsonAddressBookWriter.write(tempFilePath, modified.getPersonList(), modified.getMeetingList(), true);
+        Files.setLastModifiedTime(tempFilePath, FileTime.fromMillis(
+                Files.getLastModifiedTime(filePath).toMillis() + 1000));
+        assertEquals(modified, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // as if the system crashed while writing the temporary file
+        Files.write(tempFilePath, "{ \"persons\": [".getBytes());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noValidFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.write(filePath, new byte[0]);
+        Files.write(JsonAddressBookStorage.getBackupFilePath(filePath), new byte[0]);
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                JsonAddressBookWriter.write(null, List.of(), List.of(), true));
+    }
+
+    @Test
+    public void write_typicalAddressBook_readBackByStorage() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        JsonAddressBookWriter.write(filePath, original.getPersonList(), original.getMeetingList(), true);
+
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void write_generatedDataCompact_readBackByStorage() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(3).withPersons(300).withMeetings(60);
+
+        JsonAddressBookWriter.write(filePath, generator.getPersons(), generator.getMeetings(), false);
+
+        assertEquals(generator.generateAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
 import seedu.address.testutil.TypicalAddressBook;
 
 public class JsonSerializableAddressBookTest {
@@ -29,6 +30,13 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_generatedAddressBook_success() throws Exception {
+        AddressBook original = new SyntheticDataGenerator(7)
+                .withPersons(ParallelRecordConverter.CHUNK_SIZE * 3 + 1).withMeetings(100).generateAddressBook();
+        assertEquals(original, new JsonSerializableAddressBook(original).toModelType());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
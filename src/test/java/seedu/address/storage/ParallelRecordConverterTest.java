@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int RECORD_COUNT = ParallelRecordConverter.CHUNK_SIZE * 4 + 7;
+    private static final List<Integer> RECORDS =
+            IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList());
+
+    @Test
+    public void convertAll_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelRecordConverter.convertAll(null, String::valueOf));
+        assertThrows(NullPointerException.class, () -> ParallelRecordConverter.convertAll(RECORDS, null));
+    }
+
+    @Test
+    public void convertAll_noRecords_emptyList() throws Exception {
+        assertEquals(List.of(), ParallelRecordConverter.convertAll(List.of(), String::valueOf));
+    }
+
+    @Test
+    public void convertAll_manyChunks_resultsInRecordOrder() throws Exception {
+        List<String> expected = RECORDS.stream().map(String::valueOf).collect(Collectors.toList());
+        assertEquals(expected, ParallelRecordConverter.convertAll(RECORDS, String::valueOf));
+    }
+
+    @Test
+    public void convertAll_invalidRecordsInSeveralChunks_firstErrorThrown() {
+        int chunkSize = ParallelRecordConverter.CHUNK_SIZE;
+        Set<Integer> invalidRecords = Set.of(chunkSize * 3, chunkSize + 5, chunkSize * 2 + 1, RECORD_COUNT - 1);
+        ParallelRecordConverter.Conversion<Integer, String> conversion = record -> {
+            if (invalidRecords.contains(record)) {
+                throw new IllegalValueException("invalid record " + record);
+            }
+            return String.valueOf(record);
+        };
+
+        // chunks finish in a different order on every run, but the error must not depend on that order
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalValueException.class, "invalid record " + (chunkSize + 5), () ->
+                    ParallelRecordConverter.convertAll(RECORDS, conversion));
+        }
+    }
+}
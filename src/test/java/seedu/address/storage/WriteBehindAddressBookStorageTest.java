@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.IDA;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_returnsLatestData() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_snapshotUnaffected() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        BlockingStorageStub blockingStorage = new BlockingStorageStub(filePath);
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(blockingStorage);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        blockingStorage.release();
+        storage.flush();
+
+        assertEquals(expected, new AddressBook(blockingStorage.savedAddressBooks.get(0)));
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_coalescedIntoOneWrite() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        BlockingStorageStub blockingStorage = new BlockingStorageStub(filePath);
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(blockingStorage);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(blockingStorage.writeStarted.await(5, TimeUnit.SECONDS));
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        blockingStorage.release();
+        storage.flush();
+
+        // the first snapshot was already being written, the two that followed are merged into one
+        assertEquals(2, blockingStorage.savedAddressBooks.size());
+        assertEquals(original, new AddressBook(blockingStorage.savedAddressBooks.get(1)));
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_errorReportedToListener() throws Exception {
+        IOException failure = new IOException("disk full");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw failure;
+                    }
+                });
+        List<IOException> reportedErrors = Collections.synchronizedList(new ArrayList<>());
+        storage.setSaveErrorListener(reportedErrors::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+
+        assertEquals(List.of(failure), reportedErrors);
+        storage.close();
+    }
+
+    /**
+     * A storage that records the address books it is asked to save, blocking the first save until released.
+     */
+    private static class BlockingStorageStub extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        BlockingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            savedAddressBooks.add(addressBook);
+        }
+    }
+}
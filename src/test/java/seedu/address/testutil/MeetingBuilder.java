@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingTime;
 import seedu.address.model.meeting.Notes;
 import seedu.address.model.util.SampleDataUtil;
@@ -21,6 +22,7 @@ public class MeetingBuilder {
     private MeetingTime meetingTime;
     private Set<String> persons;
     private Notes notes;
+    private MeetingDuration duration;
 
     /**
      * Creates a {@code MeetingBuilder} with the default details.
@@ -38,6 +40,7 @@ public class MeetingBuilder {
         meetingTime = meetingToCopy.getDateTime();
         persons = new HashSet<>(meetingToCopy.getPersonList());
         notes = meetingToCopy.getNotes();
+        duration = meetingToCopy.getDuration().orElse(null);
     }
 
     /**
@@ -64,8 +67,16 @@ public class MeetingBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code MeetingDuration} of the {@code Meeting} that we are building.
+     */
+    public MeetingBuilder withDuration(String minutes) {
+        this.duration = new MeetingDuration(minutes);
+        return this;
+    }
+
     public Meeting build() {
-        return new Meeting(meetingTime, persons, notes);
+        return new Meeting(meetingTime, persons, notes, duration);
     }
 
 }
@@ -99,7 +99,7 @@ public class TypicalAddressBook {
             ab.addPerson(person);
         }
         for (Meeting meeting : getTypicalMeetings()) {
-            ab.addMeeting(meeting, ab.getPersonList(), ab.getMeetingList());
+            ab.addMeeting(meeting);
         }
         return ab;
     }
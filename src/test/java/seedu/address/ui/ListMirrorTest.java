@@ -0,0 +1,81 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+public class ListMirrorTest {
+
+    private final Queue<Runnable> pendingEdits = new ArrayDeque<>();
+    private final ObservableList<String> source = FXCollections.observableArrayList("b", "d", "a");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ListMirror<>(null, pendingEdits::add));
+        assertThrows(NullPointerException.class, () -> new ListMirror<>(source, null));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        ObservableList<String> mirror = new ListMirror<>(source, pendingEdits::add).asUnmodifiableObservableList();
+        assertThrows(UnsupportedOperationException.class, () -> mirror.remove(0));
+    }
+
+    @Test
+    public void sourceChanged_editsApplied_mirrorEqualsSource() {
+        ObservableList<String> mirror = new ListMirror<>(source, pendingEdits::add).asUnmodifiableObservableList();
+
+        source.add("c");
+        source.remove("d");
+        source.set(0, "e");
+        source.add(1, "f");
+
+        // nothing changes until the executor runs the edits
+        assertEquals(List.of("b", "d", "a"), mirror);
+        applyPendingEdits();
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void sourceChanged_sourceChangedAgainBeforeEditsApplied_mirrorEqualsSource() {
+        ObservableList<String> mirror = new ListMirror<>(source, pendingEdits::add).asUnmodifiableObservableList();
+
+        source.add("c");
+        source.clear();
+        source.addAll("x", "y");
+
+        applyPendingEdits();
+        assertEquals(List.of("x", "y"), mirror);
+    }
+
+    @Test
+    public void sourceChanged_filteredAndSortedSource_mirrorEqualsSource() {
+        FilteredList<String> filtered = new FilteredList<>(new SortedList<>(source, String::compareTo));
+        ObservableList<String> mirror = new ListMirror<>(filtered, pendingEdits::add).asUnmodifiableObservableList();
+
+        filtered.setPredicate(s -> !s.equals("b"));
+        source.addAll("c", "e");
+        filtered.setPredicate(s -> s.compareTo("c") <= 0);
+        source.remove("a");
+
+        applyPendingEdits();
+        assertEquals(filtered, mirror);
+        assertEquals(List.of("b", "c"), mirror);
+    }
+
+    private void applyPendingEdits() {
+        while (!pendingEdits.isEmpty()) {
+            pendingEdits.remove().run();
+        }
+    }
+}